@@ -0,0 +1,150 @@
+package me.eunsil.springbootdeveloper;
+
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.Comment;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 합성 데이터. 같은 시드면 항상 같은 데이터 (커밋 간 결과 비교용)
+// 글/댓글 길이, 작성자 수, 첨부 수는 실제 게시판 분포를 대략 흉내냄
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final String WORDS = "서울 부산 제주 맛집 카페 산책 야경 바다 전시 시장 여행 코스 추천 후기 주차 가성비 "
+            + "hotel trip view local best morning night walk ";
+
+    private static final Field ARTICLE_ID = field(Article.class, "id");
+    private static final Field COMMENT_ID = field(Comment.class, "id");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User("user" + i + "@easygo.com", "", "닉네임" + i, null);
+            user.setId((long) i + 1);
+            users.add(user);
+        }
+        return users;
+    }
+
+    // 제목 10~40자, 본문 200~4000자, 첨부 0~5개, 작성자 200명
+    public static List<Article> articles(int count, long seed) {
+        Random random = new Random(seed);
+        List<User> users = users(200);
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> fileUrls = new ArrayList<>();
+            for (int f = random.nextInt(6); f > 0; f--) {
+                fileUrls.add("/uploads/" + Long.toHexString(random.nextLong()) + ".jpg");
+            }
+            Article article = Article.builder()
+                    .title(text(random, 10, 40))
+                    .content(text(random, 200, 4000))
+                    .user(users.get(random.nextInt(users.size())))
+                    .createdAt(BASE_TIME.minusMinutes(i))
+                    .fileUrls(fileUrls)
+                    .viewCount((long) random.nextInt(100_000))
+                    .likeCount((long) random.nextInt(1_000))
+                    .build();
+            ReflectionUtils.setField(ARTICLE_ID, article, (long) count - i);
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    // 댓글 트리를 평면 행(createdAt 순)으로. 절반은 원댓글, 나머지는 앞서 달린 댓글 중 하나의 답글 (깊이 최대 maxDepth)
+    public static List<CommentRow> commentRows(int count, int maxDepth, long seed) {
+        Random random = new Random(seed);
+        List<CommentRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CommentRow parent = null;
+            if (i > 0 && random.nextBoolean()) {
+                CommentRow candidate = rows.get(random.nextInt(i));
+                parent = candidate.getDepth() < maxDepth ? candidate : null;
+            }
+            long userId = random.nextInt(500) + 1;
+            rows.add(new CommentRow((long) i + 1, 1L, text(random, 5, 300), userId, "닉네임" + userId,
+                    BASE_TIME.plusSeconds(i), parent != null ? parent.getId() : null,
+                    parent != null ? parent.getDepth() + 1 : 0));
+        }
+        return rows;
+    }
+
+    // commentRows와 같은 모양의 엔티티 트리 (원댓글 목록). 예전 재귀 생성자 비교용
+    public static List<Comment> commentEntities(List<CommentRow> rows) {
+        Article article = Article.builder().title("글").content("본문").build();
+        ReflectionUtils.setField(ARTICLE_ID, article, 1L);
+        List<Comment> byIndex = new ArrayList<>(rows.size());
+        List<Comment> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            User user = new User("user" + row.getUserId() + "@easygo.com", "", row.getNickname(), null);
+            user.setId(row.getUserId());
+            Comment comment = Comment.builder().content(row.getContent()).article(article).user(user).build();
+            ReflectionUtils.setField(COMMENT_ID, comment, row.getId());
+            comment.setCreatedAt(row.getCreatedAt());
+            if (row.getParentId() == null) {
+                roots.add(comment);
+            } else {
+                byIndex.get((int) (row.getParentId() - 1)).addReply(comment);
+            }
+            byIndex.add(comment);
+        }
+        return roots;
+    }
+
+    // 스팟 spotCount개를 days일에 고르게 나눈 코스 (서울 시내 범위 좌표, 시간대 3/4)
+    public static Course course(int spotCount, int days, long seed) {
+        Random random = new Random(seed);
+        String[] times = {null, "오전", "오후", "저녁"};
+        List<Course.Day> dayList = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            Course.Day day = new Course.Day();
+            day.setDate(BASE_TIME.toLocalDate().plusDays(d).toString());
+            day.setSpots(new ArrayList<>());
+            dayList.add(day);
+        }
+        for (int i = 0; i < spotCount; i++) {
+            Course.Spot spot = new Course.Spot();
+            spot.setSpotId(Long.toHexString(seed) + "-" + i);
+            spot.setName(text(random, 3, 15));
+            spot.setAddress("서울 " + text(random, 8, 25));
+            spot.setTime(times[random.nextInt(times.length)]);
+            spot.setCoordinates(new Course.Coordinates(37.45 + random.nextDouble() * 0.2, 126.85 + random.nextDouble() * 0.3));
+            dayList.get(i * days / spotCount).getSpots().add(spot);
+        }
+        Course course = new Course();
+        course.setId(Long.toHexString(seed));
+        course.setUserId("user0@easygo.com");
+        course.setName("벤치마크 코스 " + spotCount);
+        course.setVersion(1L);
+        course.setDays(dayList);
+        return course;
+    }
+
+    private static String text(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            int start = random.nextInt(WORDS.length());
+            int end = WORDS.indexOf(' ', start);
+            builder.append(WORDS, start, end < 0 ? WORDS.length() : end + 1);
+        }
+        return builder.substring(0, length);
+    }
+
+    private static Field field(Class<?> type, String name) {
+        Field field = ReflectionUtils.findField(type, name);
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
@@ -0,0 +1,81 @@
+package me.eunsil.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import me.eunsil.springbootdeveloper.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 토큰 검증 비용 (HS256, 4스레드)
+// - validToken: 서명 검증 + 파싱 (예전 필터가 validToken 다음 getAuthentication으로 두 번 파싱하던 것 중 하나)
+// - getUserId: getClaims 경로 (서명 검증 + id 클레임 추출)
+// - parseValidClaims: 검증과 클레임 추출을 한 번에
+// - authenticateCached: 필터가 쓰는 authenticate (같은 토큰 재요청이라 캐시 적중)
+// - invalidSignature: 서명이 틀린 토큰 거부 (예외 경로)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("easygo@benchmark");
+        properties.setSecretKey("benchmark-secret-key-that-is-long-enough-for-hs256");
+        tokenProvider = new TokenProvider(properties);
+        tokenProvider.init();
+
+        User user = new User("user@easygo.com", "", "닉네임", null);
+        user.setId(1L);
+        token = tokenProvider.generateToken(user, Duration.ofHours(2));
+        char last = token.charAt(token.length() - 2);
+        tamperedToken = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return tokenProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseValidClaims() {
+        return tokenProvider.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return tokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public boolean invalidSignature() {
+        return tokenProvider.validToken(tamperedToken);
+    }
+}
@@ -0,0 +1,183 @@
+package me.eunsil.springbootdeveloper.controller;
+
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.service.ContentAddressedFileStorage;
+import me.eunsil.springbootdeveloper.service.MediaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 업로드 파일 서빙 처리량: 예전 ResourceHttpRequestHandler(/uploads/**, 1시간 캐시) vs MediaController
+// 같은 파일을 실제 Tomcat에 띄워서 HTTP로 요청 (MediaController는 sendfile 사용)
+// - get: 캐시가 없을 때 전체 다운로드
+// - revalidate: 캐시 만료 후 조건부 요청 (예전 핸들러는 If-Modified-Since, MediaController는 If-None-Match)
+// - range: 앞 64KB만 요청
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MediaServingBenchmark {
+
+    @Param({"16384", "1048576", "8388608"})
+    public int fileSize;
+
+    private Path uploadDirectory;
+    private ServletWebServerApplicationContext context;
+    private HttpClient client;
+    private URI legacyUri;
+    private URI mediaUri;
+    private String lastModified;
+    private String etag;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        uploadDirectory = Files.createTempDirectory("media-benchmark");
+        byte[] bytes = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".jpg";
+        Files.createDirectories(uploadDirectory.resolve(relative).getParent());
+        Files.write(uploadDirectory.resolve(relative), bytes);
+
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(BenchmarkConfig.class)
+                // jmh jar에서는 spring.factories가 합쳐지지 않으므로 컨텍스트 종류를 직접 지정
+                .contextFactory(ApplicationContextFactory.ofContextClass(AnnotationConfigServletWebServerApplicationContext.class))
+                .run("--file.upload.directory=" + uploadDirectory, "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        int port = context.getWebServer().getPort();
+        legacyUri = URI.create("http://localhost:" + port + "/legacy/" + relative);
+        mediaUri = URI.create("http://localhost:" + port + "/uploads/" + relative);
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        lastModified = send(HttpRequest.newBuilder(legacyUri)).headers().firstValue("Last-Modified").orElseThrow();
+        etag = send(HttpRequest.newBuilder(mediaUri)).headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        context.close();
+        try (Stream<Path> files = Files.walk(uploadDirectory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int legacyGet() throws Exception {
+        return send(HttpRequest.newBuilder(legacyUri)).statusCode();
+    }
+
+    @Benchmark
+    public int mediaGet() throws Exception {
+        return send(HttpRequest.newBuilder(mediaUri)).statusCode();
+    }
+
+    @Benchmark
+    public int legacyRevalidate() throws Exception {
+        return send(HttpRequest.newBuilder(legacyUri).header("If-Modified-Since", lastModified)).statusCode();
+    }
+
+    @Benchmark
+    public int mediaRevalidate() throws Exception {
+        return send(HttpRequest.newBuilder(mediaUri).header("If-None-Match", etag)).statusCode();
+    }
+
+    @Benchmark
+    public int legacyRange() throws Exception {
+        return send(HttpRequest.newBuilder(legacyUri).header("Range", "bytes=0-65535")).statusCode();
+    }
+
+    @Benchmark
+    public int mediaRange() throws Exception {
+        return send(HttpRequest.newBuilder(mediaUri).header("Range", "bytes=0-65535")).statusCode();
+    }
+
+    private HttpResponse<Void> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    // 보안/DB 없이 두 핸들러만 올린 최소 구성
+    @Configuration
+    @EnableWebMvc
+    @Import({MediaController.class, MediaService.class, ContentAddressedFileStorage.class})
+    static class BenchmarkConfig implements WebMvcConfigurer {
+
+        @Value("${file.upload.directory}")
+        private String uploadDirectory;
+
+        @Bean
+        static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            return new PropertySourcesPlaceholderConfigurer();
+        }
+
+        @Bean
+        TomcatServletWebServerFactory tomcatServletWebServerFactory() {
+            return new TomcatServletWebServerFactory(0);
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        FileReferenceRepository fileReferenceRepository() {
+            return new FileReferenceRepository(null);  // 서빙에서는 참조 수를 보지 않음
+        }
+
+        // 변경 전 WebConfig의 /uploads/** 설정 그대로 (위치만 OS에 맞는 file: URI로)
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/legacy/**")
+                    .addResourceLocations(Path.of(uploadDirectory).toUri().toString())
+                    .setCachePeriod(3600)
+                    .resourceChain(true)
+                    .addResolver(new PathResourceResolver());
+        }
+    }
+}
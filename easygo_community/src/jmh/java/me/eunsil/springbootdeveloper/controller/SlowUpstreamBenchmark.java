@@ -0,0 +1,219 @@
+package me.eunsil.springbootdeveloper.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.config.WebConfig;
+import me.eunsil.springbootdeveloper.repository.GeocodeCacheRepository;
+import me.eunsil.springbootdeveloper.service.GeocodeCache;
+import me.eunsil.springbootdeveloper.service.KakaoMapService;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 느린 외부 API(Kakao 주소 검색 스텁, 응답 upstreamDelayMs 지연) 아래에서 플랫폼 스레드 vs 가상 스레드 처리 비교
+// 실제 Tomcat에 KakaoMapService.geocode(블로킹)를 호출하는 엔드포인트만 올리고, concurrency개 요청을 동시에 보내 모두 끝날 때까지의 시간
+// 플랫폼 스레드는 Tomcat 기본 max-threads(200)에 묶이고, 가상 스레드 모드는 spring.threads.virtual.enabled=true와 같은 구성
+// 매 요청 다른 주소를 써서 지오코딩 캐시를 거치지 않음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlowUpstreamBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"200", "1000"})
+    public int upstreamDelayMs;
+
+    @Param({"400"})
+    public int concurrency;
+
+    private final AtomicLong addressSequence = new AtomicLong();
+
+    private HttpServer kakaoStub;
+    private ServletWebServerApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        kakaoStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        kakaoStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        kakaoStub.createContext("/v2/local/search/address.json", exchange -> {
+            try {
+                Thread.sleep(upstreamDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = "{\"documents\":[{\"x\":\"127.0\",\"y\":\"37.5\"}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        kakaoStub.start();
+
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(BenchmarkConfig.class)
+                // jmh jar에서는 spring.factories가 합쳐지지 않으므로 컨텍스트 종류를 직접 지정
+                .contextFactory(ApplicationContextFactory.ofContextClass(AnnotationConfigServletWebServerApplicationContext.class))
+                .run("--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--kakao.api.key=benchmark",
+                        "--kakao.api.url=http://127.0.0.1:" + kakaoStub.getAddress().getPort(),
+                        "--kakao.api.request-timeout=30s",
+                        "--kakao.api.max-attempts=1",
+                        "--kakao.geocode.cache.warm-up-size=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        baseUri = "http://localhost:" + context.getWebServer().getPort() + "/geocode?address=";
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        clientExecutor.close();
+        context.close();
+        kakaoStub.stop(0);
+    }
+
+    // 한 번 = concurrency개 요청을 동시에 보내고 모두 응답받을 때까지
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String address = "서울 벤치마크로 " + addressSequence.incrementAndGet();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + URLEncoder.encode(address, StandardCharsets.UTF_8))).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != concurrency) {
+            throw new IllegalStateException(ok + "/" + concurrency + " requests succeeded");
+        }
+        return ok;
+    }
+
+    @RestController
+    static class GeocodeController {
+
+        private final KakaoMapService kakaoMapService;
+
+        GeocodeController(KakaoMapService kakaoMapService) {
+            this.kakaoMapService = kakaoMapService;
+        }
+
+        @GetMapping("/geocode")
+        public String geocode(@RequestParam String address) {
+            return kakaoMapService.geocode(address).map(found -> found.getLat() + "," + found.getLng()).orElse("");
+        }
+    }
+
+    // 보안/DB 없이 지오코딩 경로만 올린 최소 구성. Mongo 캐시는 항상 비어 있는 저장소로 대체
+    @Configuration
+    @EnableWebMvc
+    @Import({WebConfig.class, KakaoMapService.class, GeocodeCache.class, GeocodeController.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            return new PropertySourcesPlaceholderConfigurer();
+        }
+
+        // spring.threads.virtual.enabled=true일 때 스프링 부트가 Tomcat에 적용하는 것과 같은 실행기
+        @Bean
+        TomcatServletWebServerFactory tomcatServletWebServerFactory(@Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+            TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+            // 기본 accept 대기열(100)이 먼저 차면 두 모드 모두 SYN 재전송 대기(1초)로 측정이 묻힘
+            factory.addConnectorCustomizers(connector -> connector.setProperty("acceptCount", "1024"));
+            if (virtualThreads) {
+                factory.addProtocolHandlerCustomizers(handler -> handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+            }
+            return factory;
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        GeocodeCacheRepository geocodeCacheRepository() {
+            return (GeocodeCacheRepository) Proxy.newProxyInstance(GeocodeCacheRepository.class.getClassLoader(),
+                    new Class<?>[]{GeocodeCacheRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "findById" -> Optional.empty();
+                        case "save" -> args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "EmptyGeocodeCacheRepository";
+                        default -> List.of();
+                    });
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import me.eunsil.springbootdeveloper.BenchmarkFixtures;
+import me.eunsil.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 응답 매핑 (글 10,000개)
+// - fromEntity: 엔티티 -> DTO (예전 findAll 경로, 작성자 닉네임을 엔티티에서 꺼냄)
+// - fromProjection: JPQL 생성자 프로젝션 (findFeed 경로)
+// - withPendingCounts: 조회수 버퍼 병합 + 썸네일을 붙이는 사본 생성 (피드 응답 마지막 단계)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleListViewResponseBenchmark {
+
+    @Param({"10000"})
+    public int articles;
+
+    private List<Article> entities;
+    private List<Object[]> rows;
+    private List<ArticleListViewResponse> responses;
+    private Map<Long, Long> pendingViews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = BenchmarkFixtures.articles(articles, 42);
+        rows = new ArrayList<>(articles);
+        for (Article article : entities) {
+            rows.add(new Object[]{article.getId(), article.getTitle(), article.getContent(), article.getUser().getNickname(),
+                    article.getCreatedAt(), article.getViewCount(), article.getLikeCount()});
+        }
+        responses = fromEntity();
+        // 열 개 중 하나꼴로 아직 반영되지 않은 조회수가 있다고 가정
+        pendingViews = new HashMap<>();
+        for (int i = 0; i < entities.size(); i += 10) {
+            pendingViews.put(entities.get(i).getId(), 3L);
+        }
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> fromEntity() {
+        return entities.stream().map(ArticleListViewResponse::new).toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> fromProjection() {
+        List<ArticleListViewResponse> mapped = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            mapped.add(new ArticleListViewResponse((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (LocalDateTime) row[4], (Long) row[5], (Long) row[6]));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> withPendingCounts() {
+        List<ArticleListViewResponse> merged = new ArrayList<>(responses.size());
+        for (ArticleListViewResponse response : responses) {
+            Long pending = pendingViews.get(response.getId());
+            ArticleListViewResponse copy = pending != null ? response.withViewCount(response.getViewCount() + pending) : response;
+            merged.add(copy.withThumbnailUrl("/uploads/" + response.getId() + "_thumb.jpg"));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,67 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.eunsil.springbootdeveloper.BenchmarkFixtures;
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.Course;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 JSON 직렬화 (스프링 부트 기본과 같은 Jackson2ObjectMapperBuilder 설정)
+// - articleDetail: 글 상세 ArticleResponse 하나 (첨부 이미지 URL 묶음 포함)
+// - feedPage: 피드 한 페이지 (ArticleListViewResponse 20개)
+// - course: 스팟 1,000개짜리 코스 문서 (GET /api/courses/{id})
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ArticleResponse articleDetail;
+    private List<ArticleListViewResponse> feedPage;
+    private Course course;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Article> articles = BenchmarkFixtures.articles(20, 11);
+        Article article = articles.get(0);
+        List<ImageVariants> images = article.getFileUrls().stream()
+                .map(url -> new ImageVariants(url, url.replace(".jpg", "_thumb.jpg"), url.replace(".jpg", "_medium.jpg")))
+                .toList();
+        articleDetail = new ArticleResponse(article, true, article.getViewCount() + 3, images);
+        feedPage = articles.stream().map(ArticleListViewResponse::new).toList();
+        course = BenchmarkFixtures.course(1000, 10, 13);
+    }
+
+    @Benchmark
+    public byte[] articleDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(articleDetail);
+    }
+
+    @Benchmark
+    public byte[] feedPage() throws Exception {
+        return objectMapper.writeValueAsBytes(feedPage);
+    }
+
+    @Benchmark
+    public byte[] course() throws Exception {
+        return objectMapper.writeValueAsBytes(course);
+    }
+}
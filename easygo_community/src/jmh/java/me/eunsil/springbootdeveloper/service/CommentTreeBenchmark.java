@@ -0,0 +1,85 @@
+package me.eunsil.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.eunsil.springbootdeveloper.BenchmarkFixtures;
+import me.eunsil.springbootdeveloper.domain.Comment;
+import me.eunsil.springbootdeveloper.dto.CommentResponse;
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+import me.eunsil.springbootdeveloper.repository.CommentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 댓글 트리 응답 만들기 (댓글 5,000개, 깊이 최대 maxDepth)
+// - recursiveConstructor: 엔티티 트리를 CommentResponse(Comment, userId) 재귀 생성자로 변환 (예전 경로)
+// - assembleFromRows: CommentService.findCommentTree의 평면 행 -> id 맵 조립 (DB 조회는 제외, 미리 만든 행을 돌려줌)
+// - serialize: 조립된 트리의 JSON 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    private static final Long CURRENT_USER_ID = 7L;
+
+    @Param({"5000"})
+    public int comments;
+
+    @Param({"3", "20"})
+    public int maxDepth;
+
+    private List<Comment> roots;
+    private CommentService commentService;
+    private List<CommentResponse> tree;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<CommentRow> rows = BenchmarkFixtures.commentRows(comments, maxDepth, 7);
+        roots = BenchmarkFixtures.commentEntities(rows);
+
+        // findRowsByArticleId만 쓰므로 나머지 메서드는 호출되지 않음
+        CommentRepository commentRepository = (CommentRepository) Proxy.newProxyInstance(
+                CommentRepository.class.getClassLoader(), new Class<?>[]{CommentRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findRowsByArticleId")) {
+                        return rows;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        commentService = new CommentService(null, commentRepository, null);
+        tree = assembleFromRows();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<CommentResponse> recursiveConstructor() {
+        return roots.stream().map(root -> new CommentResponse(root, CURRENT_USER_ID)).toList();
+    }
+
+    @Benchmark
+    public List<CommentResponse> assembleFromRows() {
+        return commentService.findCommentTree(1L, CURRENT_USER_ID, null, null, null);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(tree);
+    }
+}
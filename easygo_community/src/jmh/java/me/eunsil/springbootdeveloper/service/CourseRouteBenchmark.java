@@ -0,0 +1,54 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.BenchmarkFixtures;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 코스 저장/수정마다 실행되는 경로 요약 계산 (스팟 1,000개까지)
+// - build: 일자별 거리 행렬 + 구간 거리 + 영역 + 해시
+// - spotsHash: 해시만 (요약이 바뀌었는지 비교하는 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseRouteBenchmark {
+
+    @Param({"50", "1000"})
+    public int spots;
+
+    @Param({"1", "10"})
+    public int days;
+
+    private Course course;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        course = BenchmarkFixtures.course(spots, days, spots * 31L + days);
+    }
+
+    @Benchmark
+    public CourseRoute build() {
+        return CourseRouteService.build(course);
+    }
+
+    @Benchmark
+    public String spotsHash() {
+        return CourseRouteService.spotsHash(course.getDays());
+    }
+}
@@ -0,0 +1,60 @@
+package me.eunsil.springbootdeveloper.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 하루 일정 하나(10~200개 스팟)를 최적화하는 데 걸리는 시간
+// 예산을 넉넉히 줘서 더 줄지 않을 때까지(수렴) 걸리는 시간을 잼. 서비스 기본 예산은 route.optimizer.time-budget
+// timeWindows=true면 스팟의 3/4에 오전/오후/저녁 시간대를 무작위로 붙임
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteOptimizerBenchmark {
+
+    private static final Duration CONVERGE_BUDGET = Duration.ofSeconds(10);
+
+    @Param({"10", "25", "50", "100", "200"})
+    public int spots;
+
+    @Param({"false", "true"})
+    public boolean timeWindows;
+
+    private final RouteOptimizer routeOptimizer = new RouteOptimizer();
+    private List<RouteOptimizer.Stop> stops;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 서울 시내 정도 범위에 고정 시드로 생성
+        Random random = new Random(spots * 31L + (timeWindows ? 1 : 0));
+        stops = IntStream.range(0, spots)
+                .mapToObj(i -> new RouteOptimizer.Stop(
+                        37.45 + random.nextDouble() * 0.2,
+                        126.85 + random.nextDouble() * 0.3,
+                        timeWindows ? random.nextInt(4) - 1 : RouteOptimizer.NO_SLOT))
+                .toList();
+    }
+
+    @Benchmark
+    public RouteOptimizer.Result optimize() {
+        return routeOptimizer.optimize(stops, CONVERGE_BUDGET);
+    }
+}
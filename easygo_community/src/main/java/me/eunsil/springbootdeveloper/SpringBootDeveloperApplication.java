@@ -3,8 +3,10 @@ package me.eunsil.springbootdeveloper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // createdAt, updatedAt 자동 업데이트
+@EnableScheduling // 조회수 버퍼 flush 등 주기 작업
 @SpringBootApplication
 public class SpringBootDeveloperApplication {
 
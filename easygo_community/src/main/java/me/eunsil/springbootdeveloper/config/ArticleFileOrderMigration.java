@@ -0,0 +1,66 @@
+package me.eunsil.springbootdeveloper.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// article_file_urls.file_order (첨부 순서) 마이그레이션
+// 순서 컬럼이 없던 시절의 행은 file_order가 비어 있어 Hibernate가 목록을 읽지 못하므로, 요청을 받기 전에 채움
+// 예전 행에는 순서 정보가 없으므로 PostgreSQL의 물리적 저장 순서(ctid, 삽입 순서)를 첨부 순서로 간주
+// ddl-auto가 NOT NULL 컬럼 추가에 실패한 경우를 대비해 컬럼이 없으면 직접 추가
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto로 테이블이 만들어진 뒤 실행
+@ConditionalOnProperty(name = "article.files.migrate-order", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ArticleFileOrderMigration {
+
+    private static final String COLUMN_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_name = 'article_file_urls' AND column_name = 'file_order'";
+    private static final String ADD_COLUMN =
+            "ALTER TABLE article_file_urls ADD COLUMN file_order integer";
+    private static final String BACKFILL =
+            "UPDATE article_file_urls t SET file_order = s.file_order " +
+            "FROM (SELECT ctid, row_number() OVER (PARTITION BY article_id ORDER BY ctid) - 1 AS file_order " +
+            "      FROM article_file_urls " +
+            "      WHERE article_id IN (SELECT article_id FROM article_file_urls WHERE file_order IS NULL)) s " +
+            "WHERE t.ctid = s.ctid";
+    private static final String SET_NOT_NULL =
+            "ALTER TABLE article_file_urls ALTER COLUMN file_order SET NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                return;  // 다른 DB(H2 테스트)는 create-drop으로 처음부터 순서 컬럼이 있음
+            }
+            int updated = transactionTemplate.execute(status -> {
+                Integer columns = jdbcTemplate.queryForObject(COLUMN_EXISTS, Integer.class);
+                if (columns == null || columns == 0) {
+                    jdbcTemplate.execute(ADD_COLUMN);
+                }
+                int count = jdbcTemplate.update(BACKFILL);
+                jdbcTemplate.execute(SET_NOT_NULL);
+                return count;
+            });
+            if (updated > 0) {
+                log.info("Backfilled file_order for {} article file rows", updated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Article file order migration failed", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package me.eunsil.springbootdeveloper.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// article_likes (article_id, user_id) 유니크 제약 마이그레이션
+// ddl-auto는 중복 행이 이미 있으면 제약 추가에 실패하고 로그만 남기므로, 중복을 지운 뒤 직접 제약을 만듦
+// 좋아요 토글의 ON CONFLICT DO NOTHING이 이 제약에 의존하므로 웹 서버가 요청을 받기 전에 (빈 초기화 중에) 실행
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto로 테이블이 만들어진 뒤 실행
+@ConditionalOnProperty(name = "article.likes.migrate-constraint", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ArticleLikeConstraintMigration {
+
+    static final String CONSTRAINT_NAME = "uk_article_likes_article_user";
+
+    // PostgreSQL과 H2 모두 지원하는 information_schema 사용 (H2는 이름을 대문자로 저장)
+    private static final String CONSTRAINT_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.table_constraints WHERE LOWER(constraint_name) = '" + CONSTRAINT_NAME + "'";
+    private static final String DUPLICATED_ARTICLES =
+            "SELECT DISTINCT article_id FROM article_likes GROUP BY article_id, user_id HAVING COUNT(*) > 1";
+    // (article_id, user_id)마다 가장 먼저 눌린 행만 남김
+    private static final String DELETE_DUPLICATES =
+            "DELETE FROM article_likes WHERE id NOT IN (SELECT MIN(id) FROM article_likes GROUP BY article_id, user_id)";
+    private static final String RECOUNT_LIKES =
+            "UPDATE article SET like_count = (SELECT COUNT(*) FROM article_likes l WHERE l.article_id = article.id) WHERE id = ?";
+    private static final String ADD_CONSTRAINT =
+            "ALTER TABLE article_likes ADD CONSTRAINT " + CONSTRAINT_NAME + " UNIQUE (article_id, user_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            if (constraintExists()) {
+                return;
+            }
+            // 중복 삭제와 제약 추가를 한 트랜잭션으로: 그 사이에 새 중복이 들어오지 않게 함
+            int deleted = transactionTemplate.execute(status -> {
+                List<Long> articleIds = jdbcTemplate.queryForList(DUPLICATED_ARTICLES, Long.class);
+                int count = jdbcTemplate.update(DELETE_DUPLICATES);
+                for (Long articleId : articleIds) {
+                    jdbcTemplate.update(RECOUNT_LIKES, articleId);
+                }
+                jdbcTemplate.execute(ADD_CONSTRAINT);
+                return count;
+            });
+            log.info("Created {} (removed {} duplicated likes)", CONSTRAINT_NAME, deleted);
+        } catch (DataAccessException e) {
+            // 여러 인스턴스가 동시에 시작해 다른 쪽이 먼저 만든 경우는 정상
+            if (constraintExists()) {
+                return;
+            }
+            log.warn("Article like unique constraint migration failed", e);
+        }
+    }
+
+    private boolean constraintExists() {
+        Integer count = jdbcTemplate.queryForObject(CONSTRAINT_EXISTS, Integer.class);
+        return count != null && count > 0;
+    }
+}
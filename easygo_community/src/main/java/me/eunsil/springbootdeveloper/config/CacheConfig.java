@@ -0,0 +1,14 @@
+package me.eunsil.springbootdeveloper.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// 캐시 설정은 application.yml의 spring.cache (Caffeine: 최대 크기, TTL, recordStats)
+// 캐시 적중/미스 수는 /actuator/metrics/cache.gets 로 확인
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_BY_EMAIL = "userByEmail";
+    public static final String USER_BY_ID = "userById";
+}
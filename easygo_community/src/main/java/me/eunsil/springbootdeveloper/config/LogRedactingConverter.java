@@ -0,0 +1,78 @@
+package me.eunsil.springbootdeveloper.config;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 로그 메시지의 토큰/비밀번호를 가리는 logback 변환어 (%redactedMsg, logback-spring.xml에서 등록)
+// 코드에서 토큰을 남기지 않는 것이 우선이고, 라이브러리나 예외 메시지에 섞여 들어온 값을 막는 마지막 단계
+// 옵션 logfmt를 주면 key="value" 형식 안에 들어가도록 따옴표/줄바꿈도 이스케이프
+public class LogRedactingConverter extends MessageConverter {
+
+    static final String REDACTED = "[REDACTED]";
+
+    private static final Pattern BEARER = Pattern.compile("(?i)(bearer\\s+)[\\w.~+/=-]+");
+    private static final Pattern JWT = Pattern.compile("eyJ[\\w-]*\\.[\\w-]+\\.[\\w-]*");
+    private static final Pattern SECRET_FIELD = Pattern.compile(
+            "(?i)(password|passwd|secret|refresh_?token|access_?token)(\"?\\s*[:=]\\s*)(\"(?:[^\"\\\\]|\\\\.)*\"|[^\\s,;&\"}]+)");
+
+    private boolean logfmt;
+
+    @Override
+    public void start() {
+        logfmt = "logfmt".equals(getFirstOption());
+        super.start();
+    }
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        String message = redact(super.convert(event));
+        return logfmt ? escape(message) : message;
+    }
+
+    static String redact(String message) {
+        if (message == null || !mayContainSecret(message)) {
+            return message;
+        }
+        String redacted = BEARER.matcher(message).replaceAll("$1" + REDACTED);
+        redacted = JWT.matcher(redacted).replaceAll(REDACTED);
+        // 따옴표로 감싼 값은 공백이 있어도 따옴표까지 통째로 가림
+        return SECRET_FIELD.matcher(redacted).replaceAll(match -> Matcher.quoteReplacement(match.group(1) + match.group(2)
+                + (match.group(3).startsWith("\"") ? "\"" + REDACTED + "\"" : REDACTED)));
+    }
+
+    // 대부분의 메시지는 정규식을 돌리지 않고 (새 문자열도 만들지 않고) 지나가도록 먼저 간단히 확인
+    private static boolean mayContainSecret(String message) {
+        return message.contains("eyJ") || containsIgnoreCase(message, "bearer") || containsIgnoreCase(message, "token")
+                || containsIgnoreCase(message, "passw") || containsIgnoreCase(message, "secret");
+    }
+
+    private static boolean containsIgnoreCase(String message, String word) {
+        for (int i = 0, last = message.length() - word.length(); i <= last; i++) {
+            if (message.regionMatches(true, i, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String escape(String message) {
+        if (message.indexOf('"') < 0 && message.indexOf('\\') < 0 && message.indexOf('\n') < 0 && message.indexOf('\r') < 0) {
+            return message;
+        }
+        StringBuilder builder = new StringBuilder(message.length() + 16);
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                default -> builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package me.eunsil.springbootdeveloper.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 로거 이름(카테고리)별로 INFO 이하 로그를 일부만 남기는 logback 터보 필터 (logback-spring.xml에서 등록)
+// 이벤트를 만들고 메시지를 포맷하기 전에 거르므로 버려지는 로그는 비용이 거의 없음. WARN 이상은 항상 남김
+// 규칙 예: "http.request=0.01,org.springframework.security=0.1" (가장 긴 접두사가 적용, 없으면 전부 남김)
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final Double KEEP_ALL = 1.0;
+
+    private final Map<String, Double> rates = new HashMap<>();
+    private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+    // isXxxEnabled()로 먼저 확인한 뒤 로그를 남기는 코드는 필터를 두 번 거침
+    // 확인할 때 뽑은 결과를 같은 스레드, 같은 로거의 다음 호출에서 그대로 써서 비율이 제곱으로 줄지 않게 함
+    private final ThreadLocal<Pending> pendingDecision = new ThreadLocal<>();
+
+    public void setRules(String rules) {
+        rates.clear();
+        rateByLogger.clear();
+        if (rules == null || rules.isBlank()) {
+            return;
+        }
+        for (String rule : rules.split(",")) {
+            int separator = rule.indexOf('=');
+            if (separator <= 0) {
+                addWarn("Ignoring log sampling rule without '=': " + rule);
+                continue;
+            }
+            String category = rule.substring(0, separator).trim();
+            try {
+                double rate = Double.parseDouble(rule.substring(separator + 1).trim());
+                rates.put(category, Math.max(0.0, Math.min(1.0, rate)));
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring log sampling rule with invalid rate: " + rule);
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.isGreaterOrEqual(Level.WARN) || rates.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = rateByLogger.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+
+        boolean keep;
+        if (format == null) {
+            // isXxxEnabled() 또는 atInfo() 같은 fluent API의 사전 확인
+            keep = sample(rate);
+            pendingDecision.set(new Pending(logger.getName(), keep));
+        } else {
+            Pending pending = pendingDecision.get();
+            if (pending != null) {
+                pendingDecision.remove();
+            }
+            keep = pending != null && pending.loggerName().equals(logger.getName()) ? pending.keep() : sample(rate);
+        }
+        return keep ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    // 로거 이름과 같거나 "이름." 으로 시작하는 규칙 중 가장 긴 것
+    private Double rateFor(String loggerName) {
+        String candidate = loggerName;
+        while (true) {
+            Double rate = rates.get(candidate);
+            if (rate != null) {
+                return rate;
+            }
+            int dot = candidate.lastIndexOf('.');
+            if (dot < 0) {
+                return KEEP_ALL;
+            }
+            candidate = candidate.substring(0, dot);
+        }
+    }
+
+    private static boolean sample(double rate) {
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private record Pending(String loggerName, boolean keep) {
+    }
+}
@@ -0,0 +1,62 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// 수집 항목 (/actuator/prometheus, 관리 포트로만 노출)
+// - http.server.requests: 엔드포인트별 응답 시간 (스프링 부트 기본)
+// - spring.data.repository.invocations: 저장소 메서드별 실행 시간 (Spring Data + RepositoryMetricsPostProcessor)
+// - hibernate.statements.per.request: 요청당 SQL 문 수 (RequestMetricsFilter, 요청 로그 http.request도 같은 필터에서)
+// - hibernate.statements.budget.exceeded: 엔드포인트별 SQL 예산(sql.budget)을 넘은 요청 수 (SqlBudget)
+// - kakao.api.requests: Kakao 주소 검색 시도별 응답 시간/결과 (KakaoMapService)
+// - hikaricp.connections.*, mongodb.driver.pool.*, mongodb.driver.commands: 커넥션 풀 사용량/대기 (스프링 부트 기본)
+// 백분위 히스토그램 대상은 application.yml의 management.metrics.distribution
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public SqlBudget sqlBudget(SqlBudgetProperties sqlBudgetProperties, MeterRegistry meterRegistry) {
+        return new SqlBudget(sqlBudgetProperties, meterRegistry);
+    }
+
+    // 보안 필터보다 먼저 실행해서 인증 단계의 조회(리프레시 토큰 등)도 요청에 포함
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(SqlStatementCounter sqlStatementCounter,
+                                                                             SqlBudget sqlBudget,
+                                                                             MeterRegistry meterRegistry,
+                                                                             @Value("${logging.request.slow-threshold:1s}") Duration slowThreshold) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(sqlStatementCounter, sqlBudget, meterRegistry, slowThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // BeanPostProcessor라서 static으로 등록하고 MeterRegistry는 처음 쓸 때 가져옴
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        RepositoryMetricsPostProcessor postProcessor = new RepositoryMetricsPostProcessor(meterRegistry);
+        // 예외 변환 프록시가 이미 있으면 그 프록시에 어드바이스만 추가
+        postProcessor.setBeforeExistingAdvisors(true);
+        postProcessor.setProxyTargetClass(true);
+        return postProcessor;
+    }
+}
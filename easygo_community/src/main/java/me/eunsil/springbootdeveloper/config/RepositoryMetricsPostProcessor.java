@@ -0,0 +1,46 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+// JdbcTemplate으로 직접 구현한 @Repository 빈(ArticleCounterRepository, ArticleSearchRepository 등)의 메서드 실행 시간 기록
+// Spring Data 저장소는 스프링 부트가 이미 spring.data.repository.invocations로 기록하므로 같은 이름/태그로 맞춤
+public class RepositoryMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String METRIC_NAME = "spring.data.repository.invocations";
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        MethodInterceptor interceptor = invocation -> {
+            Timer.Sample sample = Timer.start(meterRegistry.getObject());
+            String state = "SUCCESS";
+            String exception = "None";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                state = "ERROR";
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder(METRIC_NAME)
+                        .description("Duration of repository invocations")
+                        .tag("repository", invocation.getMethod().getDeclaringClass().getSimpleName())
+                        .tag("method", invocation.getMethod().getName())
+                        .tag("state", state)
+                        .tag("exception", exception)
+                        .register(meterRegistry.getObject()));
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Repository.class, true), interceptor);
+    }
+
+    @Override
+    protected boolean isEligible(Object bean, String beanName) {
+        return !(bean instanceof org.springframework.data.repository.Repository<?, ?>) && super.isEligible(bean, beanName);
+    }
+}
@@ -0,0 +1,90 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// 요청당 Hibernate SQL 문 수를 엔드포인트(URI 패턴)별 분포로 기록 (hibernate.statements.per.request)
+// 목록 API에서 글마다 작성자를 따로 읽는 N+1이 생기면 이 값의 상위 백분위가 페이지 크기만큼 올라감
+// 엔드포인트별 예산(sql.budget)을 넘은 요청은 SqlBudget이 호출 위치와 함께 경고
+// 엔드포인트별 응답 시간은 스프링 부트가 기록하는 http.server.requests를 사용
+// 요청마다 http.request 로거에 key=value 한 줄을 남김. 정상 요청은 INFO라 샘플링되고(logging.sampling),
+// 5xx/예외/느린 요청(logging.request.slow-threshold)은 WARN으로 항상 남김
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger requestLog = LoggerFactory.getLogger("http.request");
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final SqlBudget sqlBudget;
+    private final MeterRegistry meterRegistry;
+    private final Duration slowThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.start();
+        long startNanos = System.nanoTime();
+        SqlStatementCounter.Report report;
+        String uri;
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            report = sqlStatementCounter.stop();
+            uri = uriPattern(request);
+            logRequest(request, response, uri, report.count(), System.nanoTime() - startNanos, failure);
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("Hibernate SQL statements executed while handling one request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry)
+                    .record(report.count());
+        }
+        // 요청 처리 중 예외가 났으면 그 예외를 그대로 전달하고 예산은 보지 않음
+        sqlBudget.check(request.getMethod(), uri, report);
+    }
+
+    // 샘플링에서 빠지면 atLevel()이 빈 빌더를 돌려줘서 값을 담지 않음
+    private void logRequest(HttpServletRequest request, HttpServletResponse response, String uri,
+                            long statements, long elapsedNanos, Throwable failure) {
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        boolean problem = failure != null || response.getStatus() >= 500 || elapsed.compareTo(slowThreshold) > 0;
+        LoggingEventBuilder event = requestLog.atLevel(problem ? Level.WARN : Level.INFO)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("uri", uri)
+                .addKeyValue("status", failure != null ? "EXCEPTION" : response.getStatus())
+                .addKeyValue("durationMs", elapsed.toMillis())
+                .addKeyValue("sqlStatements", statements);
+        if (failure != null) {
+            event = event.addKeyValue("error", failure.getClass().getSimpleName());
+        }
+        event.log("request");
+    }
+
+    // 경로 변수 값마다 태그가 생기지 않도록 매칭된 패턴(/api/articles/{id})을 씀. 매칭되지 않았으면 UNKNOWN
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
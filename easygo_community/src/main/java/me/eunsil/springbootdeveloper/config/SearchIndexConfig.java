@@ -0,0 +1,51 @@
+package me.eunsil.springbootdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// 게시글 검색용 pg_trgm 확장과 trigram GIN 인덱스 생성 (ddl-auto로는 만들 수 없어서 시작 시 실행)
+// 한글은 형태소 분석 없이는 tsvector로 부분 검색이 안 되므로 trigram 인덱스 사용
+// (DB 인코딩이 UTF8이고 LC_CTYPE이 C가 아니어야 한글 trigram이 만들어짐)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "article.search.create-indexes", havingValue = "true", matchIfMissing = true)
+public class SearchIndexConfig {
+
+    // CONCURRENTLY: 운영 중 테이블 쓰기를 막지 않고 생성 (트랜잭션 밖에서만 가능, JdbcTemplate 기본 autocommit)
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_article_title_trgm ON article USING gin (title gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_article_content_trgm ON article USING gin (content gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_nickname_trgm ON users USING gin (nickname gin_trgm_ops)",
+            // 닉네임으로 찾은 사용자의 글 조회용
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_article_user_id ON article (user_id)"
+    );
+
+    @Bean
+    public ApplicationRunner searchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        return args -> {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equals(product)) {
+                log.info("Skipping search index creation on {}", product);
+                return;
+            }
+            for (String ddl : DDL) {
+                try {
+                    jdbcTemplate.execute(ddl);
+                } catch (DataAccessException e) {
+                    // 확장 생성 권한이 없는 경우 등: 검색은 인덱스 없이도 동작하므로 경고만 남김
+                    log.warn("Search index DDL failed: {}", ddl, e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.stream.Collectors;
+
+// 요청당 SQL 수를 엔드포인트별 예산과 비교
+// 넘으면 반복 실행된 SQL과 호출 위치를 경고 로그로 남기고 hibernate.statements.budget.exceeded를 올림
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudget {
+
+    private static final int MAX_REPORTED = 3;
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public int limitFor(String method, String uri) {
+        return properties.getEndpoints().getOrDefault(method + " " + uri, properties.getDefaultLimit());
+    }
+
+    public void check(String method, String uri, SqlStatementCounter.Report report) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int limit = limitFor(method, uri);
+        if (report.count() <= limit) {
+            return;
+        }
+
+        Counter.builder("hibernate.statements.budget.exceeded")
+                .description("Requests that ran more Hibernate SQL statements than their budget")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        String message = String.format("SQL budget exceeded: %s %s ran %d statements (budget %d)%s",
+                method, uri, report.count(), limit, describe(report));
+        if (properties.isFailOnExceed()) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String describe(SqlStatementCounter.Report report) {
+        if (report.repeated().isEmpty()) {
+            return "";
+        }
+        return report.repeated().stream()
+                .limit(MAX_REPORTED)
+                .map(repeated -> String.format("%n  %dx at %s: %s", repeated.count(), repeated.callSite(), abbreviate(repeated.sql())))
+                .collect(Collectors.joining("", "; repeated statements:", ""));
+    }
+
+    private static String abbreviate(String sql) {
+        String oneLine = sql.replaceAll("\\s+", " ").trim();
+        return oneLine.length() > MAX_SQL_LENGTH ? oneLine.substring(0, MAX_SQL_LENGTH) + "..." : oneLine;
+    }
+}
@@ -0,0 +1,9 @@
+package me.eunsil.springbootdeveloper.config;
+
+// sql.budget.fail-on-exceed=true일 때 요청당 SQL 예산을 넘으면 발생 (테스트에서 N+1을 잡기 위한 용도)
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package me.eunsil.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sql.budget")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+    // 엔드포인트별 예산이 없을 때 쓰는 요청당 최대 SQL 수
+    private int defaultLimit = 20;
+    // "GET /api/articles" 같은 "메서드 URI패턴" -> 요청당 최대 SQL 수
+    private Map<String, Integer> endpoints = new HashMap<>();
+    // true면 예산을 넘은 요청을 예외로 실패시킴 (테스트용). false면 경고 로그만
+    private boolean failOnExceed = false;
+}
@@ -0,0 +1,101 @@
+package me.eunsil.springbootdeveloper.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 현재 스레드(요청)에서 Hibernate가 실행한 SQL 문 수를 셈
+// RequestMetricsFilter가 요청 시작 때 start(), 끝날 때 stop()으로 꺼내서 요청당 분포로 기록하고 예산(SqlBudget)과 비교
+// JdbcTemplate으로 직접 실행한 SQL과 다른 스레드(비동기 작업)에서 실행한 SQL은 세지 않음
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final String APP_PACKAGE = "me.eunsil.springbootdeveloper.";
+    private static final String CONFIG_PACKAGE = APP_PACKAGE + "config.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public void start() {
+        CURRENT.set(new Statements());
+    }
+
+    // start() 이후 실행된 SQL. start() 없이 호출하면 빈 결과
+    public Report stop() {
+        Statements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements != null ? statements.toReport() : new Report(0, List.of());
+    }
+
+    // 같은 SQL이 두 번째 실행될 때(N+1의 신호) 한 번만 호출 위치를 기록. 스택은 이때만 훑음
+    private static final class Statements {
+        private int count;
+        private final Map<String, RepeatedStatement> bySql = new HashMap<>();
+
+        void add(String sql) {
+            count++;
+            RepeatedStatement statement = bySql.computeIfAbsent(sql, RepeatedStatement::new);
+            statement.count++;
+            if (statement.count == 2) {
+                statement.callSite = callSite();
+            }
+        }
+
+        Report toReport() {
+            List<RepeatedStatement> repeated = new ArrayList<>();
+            for (RepeatedStatement statement : bySql.values()) {
+                if (statement.count > 1) {
+                    repeated.add(statement);
+                }
+            }
+            repeated.sort(Comparator.comparingInt((RepeatedStatement statement) -> statement.count).reversed());
+            return new Report(count, repeated.stream()
+                    .map(statement -> new Repeated(statement.sql, statement.count, statement.callSite))
+                    .toList());
+        }
+    }
+
+    private static final class RepeatedStatement {
+        private final String sql;
+        private int count;
+        private String callSite;
+
+        RepeatedStatement(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    // SQL을 실행시킨 애플리케이션 코드 중 가장 가까운 위치 (스프링/Hibernate 프록시, 설정 클래스 제외). 찾지 못하면 "unknown"
+    static String callSite() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !f.getClassName().contains("$$")
+                        && !f.getClassName().contains("$HibernateProxy$"))
+                .findFirst());
+        return frame.map(f -> {
+            String className = f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1);
+            return className + "." + f.getMethodName() + ":" + f.getLineNumber();
+        }).orElse("unknown");
+    }
+
+    // count: 전체 SQL 수, repeated: 두 번 이상 실행된 SQL (많이 실행된 순)
+    public record Report(int count, List<Repeated> repeated) {
+    }
+
+    public record Repeated(String sql, int count, String callSite) {
+    }
+}
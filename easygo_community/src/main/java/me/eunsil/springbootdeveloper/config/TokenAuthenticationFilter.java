@@ -23,28 +23,26 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 헤더/토큰 값은 로그에 남기지 않음 (요청마다 찍히고, 로그만으로 토큰을 재사용할 수 있음)
         // 요청 헤더의 Authorization 키의 값 조회
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
-        log.info("Authorization Header: {}", authorizationHeader);  // debug -> info
         // 가져온 값에서 접두사 제거
         String token = getAccessToken(authorizationHeader);
-        log.info("Extracted token: {}", token);  // debug -> info
 
-        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
-        if(tokenProvider.validToken(token)){
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정 (검증과 클레임 추출을 한 번에)
+        Authentication authentication = tokenProvider.authenticate(token);
+        if(authentication != null){
             SecurityContextHolder.getContext().setAuthentication(authentication);
+        } else if (token != null) {
+            log.debug("Rejected access token for {} {}", request.getMethod(), request.getRequestURI());
         }
         filterChain.doFilter(request, response);
     }
 
 
     private String getAccessToken(String authorizationHeader){
-        log.debug("Authorization Header: {}", authorizationHeader); // ✅ 여기부터 찍히는지 확인
         if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_Prefix)) {
-            String token = authorizationHeader.substring(TOKEN_Prefix.length()).trim(); // ✅ trim() 추가
-            log.debug("Extracted token: {}", token);  // ✅ 올바른 방법
-            return token;
+            return authorizationHeader.substring(TOKEN_Prefix.length()).trim(); // ✅ trim() 추가
         }
         return null;
     }
@@ -85,7 +85,9 @@ public class WebOAuthSecurityConfig {
                             "/preferences/**",           // preferences 페이지 접근 허용
                             "/community",               // community 메인 페이지 접근 허용
                             "/api/articles",            // 게시글 목록 조회 허용
-                            "/api/articles/search/**"   // 게시글 검색 허용
+                            "/api/articles/search/**",  // 게시글 검색 허용
+                            "/actuator/health",          // 관리 포트(management.server.port)로만 노출
+                            "/actuator/prometheus"       // 메트릭 수집
                             
                         )
                         .permitAll()
@@ -8,6 +8,8 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -17,5 +19,8 @@ public class JwtProperties {
 
     private String issuer;
     private String secretKey;
+    // 검증이 끝난 토큰 -> 인증 정보 캐시 (만료 시간은 토큰의 exp를 넘지 않음)
+    private long authCacheMaxSize = 10_000;
+    private Duration authCacheTtl = Duration.ofMinutes(5);
 
 }
@@ -1,49 +1,88 @@
 package me.eunsil.springbootdeveloper.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor // Lombok을 사용하여 자동 생성자 주입
 public class TokenProvider {
 
+    private static final Set<SimpleGrantedAuthority> USER_AUTHORITIES = Set.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 요청마다 만들지 않고 한 번만 생성 (둘 다 thread-safe)
+    private Key secretKey;
+    private JwtParser jwtParser;
+    // 토큰 해시 -> 검증이 끝난 인증 정보
+    private Cache<String, CachedAuthentication> authenticationCache;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey) // 비밀값으로 복호화. secretKey는 String이 아니라 Key 객체여야 합니다.
+                .build();
+        authenticationCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getAuthCacheMaxSize())
+                .expireAfter(new TokenExpiry(jwtProperties.getAuthCacheTtl()))
+                .build();
+    }
+
     public String generateToken(User user, Duration expiredAt) {
         Date now = new Date();
         return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
     }
 
+    // 캐시된 사용자 정보로 토큰 생성 (토큰 재발급처럼 users 조회가 필요 없는 경우)
+    public String generateToken(UserSnapshot user, Duration expiredAt) {
+        Date now = new Date();
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user.getEmail(), user.getId());
+    }
+
 
     // JWT 토큰 생성 메서드
     public String makeToken(Date expiry, User user){
+        return makeToken(expiry, user.getEmail(), user.getId());
+    }
+
+    private String makeToken(Date expiry, String email, Long userId) {
         Date now = new Date();
 
-        Key secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE) // 헤더 type : JWT
                 // 내용 iss : ajufresh@gamail.com(propertise 파일에서 설정한 값)
                 .setIssuer(jwtProperties.getIssuer())
                 .setIssuedAt(now) // 내용 iat : 현재 시간
                 .setExpiration(expiry) // 내용 exp : expiry 멤버 변숫값
-                .setSubject(user.getEmail()) // 내용 sub : 유저의 이메일
-                .claim("id", user.getId()) // 클레임 id : 유저 ID
+                .setSubject(email) // 내용 sub : 유저의 이메일
+                .claim("id", userId) // 클레임 id : 유저 ID
                 // 서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
@@ -51,36 +90,49 @@ public class TokenProvider {
 
     // JWT 토큰 유효성 검증 메서드
     public boolean validToken(String token) {
-        try {
+        return parseValidClaims(token).isPresent();
+    }
 
-            Key secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+    // 검증과 클레임 추출을 한 번에 처리. 서명이 틀리거나 만료된 토큰이면 empty
+    public Optional<Claims> parseValidClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            // 이 단계에서 JWT 서명이 검증되며, 토큰이 변조되었거나 만료되었으면 예외 발생!
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
 
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey) // 비밀값으로 복호화. secretKey는 String이 아니라 Key 객체여야 합니다.
-//                    .parseClaimsJws(token); 현재 jwtProperties.getSecretKey()가 String 형태라서 setSigningKey()에 바로 사용할 수 없습니다.
-                    .build()
-                    //JWT 파서 객체를 최종적으로 생성하는 과정입니다.
-                    //이전 단계(parserBuilder(), setSigningKey())에서 설정한 정보를 기반으로 JWT를 파싱할 준비가 완료됩니다.
-                    .parseClaimsJws(token);
-    //                token(JWT)을 실제로 파싱하고 검증하는 핵심 부분입니다.
-    //                이 단계에서 JWT 서명이 검증되며, 토큰이 변조되었거나 만료되었으면 예외 발생!
+    // 인증 필터용: 유효한 토큰이면 인증 정보, 아니면 null
+    // 같은 토큰으로 다시 요청하면 서명 검증 없이 캐시된 사용자 정보로 인증 정보를 만듦
+    // Authentication은 변경 가능한 객체(setAuthenticated, setDetails, eraseCredentials)라서 요청마다 새로 생성
+    public Authentication authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String key = hash(token);
+        CachedAuthentication cached = authenticationCache.getIfPresent(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.toAuthentication(token);
+        }
 
-            return true;
-        } catch (Exception e) {
-            return false;
+        Optional<Claims> claims = parseValidClaims(token);
+        if (claims.isEmpty()) {
+            return null;
         }
+        Date expiration = claims.get().getExpiration();
+        long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        CachedAuthentication authentication = new CachedAuthentication(toPrincipal(claims.get()), USER_AUTHORITIES, expiresAt);
+        authenticationCache.put(key, authentication);
+        return authentication.toAuthentication(token);
     }
 
     // 토큰 기반으로 인증 정보를 가져오는 메서드
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
-
-        return new UsernamePasswordAuthenticationToken(
-                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities),
-                token,
-                authorities);
-
+        return toAuthentication(getClaims(token), token);
     }
 
     // 토큰 기반으로 유저 ID를 가져오는 메서드
@@ -90,11 +142,52 @@ public class TokenProvider {
     }
 
     private Claims getClaims(String token) {
-        Key secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private static Authentication toAuthentication(Claims claims, String token) {
+        return new UsernamePasswordAuthenticationToken(toPrincipal(claims), token, USER_AUTHORITIES);
+    }
+
+    private static UserDetails toPrincipal(Claims claims) {
+        return new org.springframework.security.core.userdetails.User(claims.getSubject(), "", USER_AUTHORITIES);
+    }
+
+    // 원본 토큰을 캐시 키로 들고 있지 않도록 SHA-256 해시 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시에는 변경할 수 없는 값(사용자 정보, 권한, 만료 시각)만 저장
+    private record CachedAuthentication(UserDetails principal, Set<SimpleGrantedAuthority> authorities, long expiresAt) {
+
+        Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+    }
+
+    // 캐시 만료 = min(설정한 TTL, 토큰 exp까지 남은 시간)
+    private record TokenExpiry(Duration ttl) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long untilExp = Duration.ofMillis(Math.max(0, value.expiresAt() - System.currentTimeMillis())).toNanos();
+            return Math.min(ttl.toNanos(), untilExp);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
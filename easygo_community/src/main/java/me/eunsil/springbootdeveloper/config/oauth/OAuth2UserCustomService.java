@@ -24,14 +24,14 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
     @Override // 리소스 서버에서 보내주는 사용자 정보를 불러오는 메서드인 loadUser()를 통해 사용자 조회
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oauth2User = super.loadUser(userRequest);
-        log.info("OAuth2User attributes: {}", oauth2User.getAttributes());
+        log.debug("OAuth2User attributes: {}", oauth2User.getAttributes());
         
         String provider = userRequest.getClientRegistration().getRegistrationId();
         String providerId = oauth2User.getAttribute("sub");
         String email = oauth2User.getAttribute("email");
         String name = oauth2User.getAttribute("name");
         
-        log.info("Provider: {}, ProviderId: {}, Email: {}, Name: {}", provider, providerId, email, name);
+        log.debug("Provider: {}, ProviderId: {}, Email: {}, Name: {}", provider, providerId, email, name);
         
         User user = userRepository.findByEmail(email)
                 .orElseGet(() -> {
@@ -42,7 +42,7 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
                             .build());
                 });
         
-        log.info("Found or created user: {}", user);
+        log.debug("Found or created user: {}", user);
         
         return new DefaultOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
@@ -5,10 +5,14 @@ import lombok.extern.slf4j.Slf4j;
 import me.eunsil.springbootdeveloper.domain.Article;
 import me.eunsil.springbootdeveloper.domain.User;
 import me.eunsil.springbootdeveloper.dto.AddArticleRequest;
+import me.eunsil.springbootdeveloper.dto.ArticleFeedResponse;
 import me.eunsil.springbootdeveloper.dto.ArticleListViewResponse;
 import me.eunsil.springbootdeveloper.dto.ArticleResponse;
+import me.eunsil.springbootdeveloper.dto.ArticleSearchResponse;
 import me.eunsil.springbootdeveloper.dto.UpdateArticleRequest;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import me.eunsil.springbootdeveloper.repository.ArticleLikeRepository;
+import me.eunsil.springbootdeveloper.service.ArticleSearchService;
 import me.eunsil.springbootdeveloper.service.BlogService;
 import me.eunsil.springbootdeveloper.service.UserService;
 import org.springframework.http.HttpStatus;
@@ -20,7 +24,6 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +34,7 @@ import java.util.Map;
 public class BlogApiController {
 
     private final BlogService blogService;
+    private final ArticleSearchService articleSearchService;
     private final UserService userService;
     private final ArticleLikeRepository articleLikeRepository;
 
@@ -47,10 +51,10 @@ public class BlogApiController {
             }
 
             String email = authentication.getName();
-            log.info("Current user email: {}", email);
+            log.debug("Current user email: {}", email);
 
-            User user = userService.findByEmail(email);
-            log.info("Found user: {}", user);
+            UserSnapshot user = userService.findSnapshotByEmail(email);
+            log.debug("Found user id: {}", user.getId());
 
             if (user.getNickname() == null) {
                 throw new IllegalStateException("Nickname not set");
@@ -58,17 +62,18 @@ public class BlogApiController {
             Article article = Article.builder()
                     .title(request.getTitle())
                     .content(request.getContent())
-                    .user(user)
+                    .user(userService.getReference(user.getId()))
                     .build();
 
             if (files != null && !files.isEmpty()) {
                 try {
                     List<String> fileUrls = blogService.saveFiles(files);
                     article.setFileUrls(fileUrls);
-                    log.info("Saved files with URLs: {}", fileUrls);
-                } catch (IOException e) {
-                    log.error("File save error: ", e);
-                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                    log.debug("Saved files with URLs: {}", fileUrls);
+                } catch (IllegalArgumentException e) {
+                    // 이미지가 아니거나 크기 제한을 넘은 파일이 있으면 저장한 파일을 모두 지우고 거부
+                    log.warn("File rejected: {}", e.getMessage());
+                    return ResponseEntity.badRequest().build();
                 }
             }
 
@@ -82,14 +87,32 @@ public class BlogApiController {
     }
 
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleListViewResponse>> findAllArticles() {
-        List<ArticleListViewResponse> articles = blogService.findAll()
-                .stream().map(ArticleListViewResponse::new).toList();
-        log.info("게시글목록: {}", articles);
-//        blogService.findAll()로부터 Article 리스트를 받아,
-//        각 Article 객체를 ArticleResponse 객체로 변환하여 새로운 리스트를 생성하는 역할을 합니다.
-
-        return ResponseEntity.ok().body(articles);
+    public ResponseEntity<ArticleFeedResponse> findAllArticles(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 전체 Article 엔티티를 불러오지 않고, 목록에 필요한 컬럼만 커서 단위로 조회
+        try {
+            ArticleFeedResponse feed = blogService.findFeed(cursor, size);
+            log.debug("게시글목록: {}건, hasNext={}", feed.getArticles().size(), feed.isHasNext());
+            return ResponseEntity.ok().body(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();  // 잘못된 cursor
+        }
+    }
+
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(
+        @RequestParam(value = "q") String query,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 제목/본문/작성자 닉네임 검색 (관련도순, 커서 페이지네이션)
+        try {
+            return ResponseEntity.ok().body(articleSearchService.search(query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/api/articles/{id}")
@@ -104,16 +127,16 @@ public class BlogApiController {
         if (authentication != null && authentication.isAuthenticated() 
                 && !authentication.getPrincipal().equals("anonymousUser")) {
             String email = authentication.getName();
-            User user = userService.findByEmail(email);
+            UserSnapshot user = userService.findSnapshotByEmail(email);
             // articleId와 userId로 좋아요 상태 확인
             likecheck = articleLikeRepository.existsByArticleIdAndUserId(article.getId(), user.getId());
             
             // 디버깅을 위한 로그 추가
-            log.info("Article ID: {}, User ID: {}, LikeCheck: {}", article.getId(), user.getId(), likecheck);
+            log.debug("Article ID: {}, User ID: {}, LikeCheck: {}", article.getId(), user.getId(), likecheck);
         }
         
         return ResponseEntity.ok()
-                .body(new ArticleResponse(article, likecheck));
+                .body(new ArticleResponse(article, likecheck, blogService.getViewCount(article), blogService.getImageVariants(article)));
     }
 
     @DeleteMapping("/api/articles/{id}")
@@ -129,20 +152,38 @@ public class BlogApiController {
         @RequestPart(value = "article") UpdateArticleRequest request,
         @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
-        Article updatedArticle = blogService.update(id, request, files);
-        return ResponseEntity.ok()
-            .body(updatedArticle);
+        // addArticle과 같이 파일은 트랜잭션 밖에서 먼저 저장 (거부되면 400)
+        List<String> newFileUrls = List.of();
+        if (files != null && !files.isEmpty()) {
+            try {
+                newFileUrls = blogService.saveFiles(files);
+            } catch (IllegalArgumentException e) {
+                log.warn("File rejected: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        try {
+            Article updatedArticle = blogService.update(id, request, newFileUrls);
+            return ResponseEntity.ok()
+                .body(updatedArticle);
+        } catch (RuntimeException e) {
+            // 수정이 롤백되면 이번 요청에서 저장한 파일은 어디에도 붙지 않으므로 반납
+            blogService.releaseFiles(newFileUrls);
+            throw e;
+        }
     }
 
     @PostMapping("/api/articles/{articleId}/view")
     public ResponseEntity<ArticleResponse> incrementViewCount(@PathVariable("articleId") Long articleId) {
-        // 조회수 증가
-        blogService.incrementViewCount(articleId);
-        
-        // 업데이트된 게시글 정보 반환
         Article article = blogService.findById(articleId);
+
+        // 조회수 증가 (버퍼에 쌓이고 DB에는 주기적으로 반영)
+        blogService.incrementViewCount(articleId);
+
+        // 미반영분까지 합친 조회수로 게시글 정보 반환
         return ResponseEntity.ok()
-            .body(new ArticleResponse(article, false));  // 조회수 API에서는 좋아요 상태는 불필요하므로 false로 설정
+            .body(new ArticleResponse(article, false, blogService.getViewCount(article), blogService.getImageVariants(article)));  // 조회수 API에서는 좋아요 상태는 불필요하므로 false로 설정
     }
 
     @PostMapping("/api/articles/{articleId}/like")
@@ -154,14 +195,13 @@ public class BlogApiController {
         }
 
         String email = authentication.getName();
-        User user = userService.findByEmail(email);
+        UserSnapshot user = userService.findSnapshotByEmail(email);
         
-        boolean likecheck = blogService.toggleLike(articleId, user);
-        Article article = blogService.findById(articleId);
+        boolean likecheck = blogService.toggleLike(articleId, user.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("likecheck", likecheck);
-        response.put("likeCount", article.getLikeCount());
+        response.put("likeCount", blogService.getLikeCount(articleId));
         
         return ResponseEntity.ok(response);
     }
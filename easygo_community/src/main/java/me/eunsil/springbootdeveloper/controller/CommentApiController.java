@@ -8,6 +8,7 @@ import me.eunsil.springbootdeveloper.domain.Comment;
 import me.eunsil.springbootdeveloper.domain.User;
 import me.eunsil.springbootdeveloper.dto.CommentDto;
 import me.eunsil.springbootdeveloper.dto.CommentResponse;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import me.eunsil.springbootdeveloper.service.BlogService;
 import me.eunsil.springbootdeveloper.service.CommentService;
 import me.eunsil.springbootdeveloper.service.UserService;
@@ -35,17 +36,26 @@ public class CommentApiController {
             throw new IllegalArgumentException("Not authenticated");
         }
 
-        User user = userService.findByEmail(authentication.getName());
+        UserSnapshot user = userService.findSnapshotByEmail(authentication.getName());
         Article article = blogService.findById(articleId);
         CommentResponse comment = commentService.createComment(request.getContent(), article, user, request.getParentId());
         return ResponseEntity.status(HttpStatus.CREATED).body(comment);
     }
 
     @GetMapping("/api/articles/{articleId}/comments")
-    public ResponseEntity<List<CommentResponse>> findAllComments(@PathVariable("articleId") long articleId) {
+    public ResponseEntity<List<CommentResponse>> findAllComments(
+            @PathVariable("articleId") long articleId,
+            @RequestParam(value = "maxDepth", required = false) Integer maxDepth,  // 이 깊이까지의 대댓글만
+            @RequestParam(value = "limit", required = false) Integer limit,        // 원댓글 스레드 개수
+            @RequestParam(value = "after", required = false) Long after) {         // 이전에 받은 마지막 원댓글 id
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName());
-        List<CommentResponse> comments = commentService.findAllByArticleId(articleId, user.getId());
+        UserSnapshot user = userService.findSnapshotByEmail(authentication.getName());
+        List<CommentResponse> comments;
+        try {
+            comments = commentService.findCommentTree(articleId, user.getId(), maxDepth, limit, after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();  // limit이 0 이하이거나 after가 이 게시글의 원댓글이 아님
+        }
                 /*List<CommentResponse> comments = commentService.findAllByArticleId(articleId, user.getId())
                 .stream().map(comment -> new CommentResponse(comment, currentUserId)).toList();
          commentService.findAll(articleId)로부터 Comment 리스트를 받아,
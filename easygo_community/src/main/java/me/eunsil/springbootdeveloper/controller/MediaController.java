@@ -0,0 +1,135 @@
+package me.eunsil.springbootdeveloper.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.service.MediaService;
+import me.eunsil.springbootdeveloper.service.MediaService.MediaFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+
+// 업로드 파일 서빙 (/uploads/**)
+// 파일 이름이 내용 해시라서 내용이 바뀌지 않으므로 immutable로 오래 캐시하고, ETag로 조건부 요청(304)과 Range(206) 처리
+// 본문은 Tomcat sendfile(커널 zero-copy)로 보내고, 지원하지 않는 환경에서는 FileChannel.transferTo로 복사
+@RestController
+@RequiredArgsConstructor
+public class MediaController {
+
+    // Tomcat NIO 커넥터가 sendfile을 지원할 때 요청에 넣어주는 속성과, 응답 본문 대신 보낼 파일 정보 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final MediaService mediaService;
+
+    @Value("${media.cache-max-age:365d}")
+    private Duration cacheMaxAge;
+
+    // 이보다 작은 파일은 sendfile 대신 바로 복사 (작은 파일은 시스템 콜을 따로 거는 비용이 더 큼)
+    @Value("${media.sendfile-threshold:48KB}")
+    private DataSize sendfileThreshold;
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaFile file = mediaService.find(URL_PATH_HELPER.getPathWithinApplication(request));
+
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(cacheMaxAge).cachePublic().immutable().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 1. 조건부 요청: 같은 내용을 이미 가지고 있으면 본문 없이 304
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(file.contentType().toString());
+
+        // 2. Range 요청: 단일 구간만 206으로 처리하고, 여러 구간이면 전체를 보냄 (RFC 9110상 무시 가능)
+        long start = 0;
+        long length = file.size();
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.trim().equals(file.etag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();  // 형식이 잘못된 Range는 무시
+            }
+            if (ranges.size() == 1) {
+                HttpRange httpRange = ranges.get(0);
+                start = httpRange.getRangeStart(file.size());
+                long end = httpRange.getRangeEnd(file.size());
+                if (start >= file.size() || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                length = end - start + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + (start + length - 1) + "/" + file.size());
+            }
+        }
+        response.setContentLengthLong(length);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+
+        // 3. 본문 전송
+        if (length >= sendfileThreshold.toBytes() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long limit = start + length;
+            while (position < limit) {
+                long transferred = channel.transferTo(position, limit - position, out);
+                if (transferred <= 0) {
+                    break;  // 전송 도중 파일이 짧아짐
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (약한 비교라 W/ 접두사는 무시)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,10 @@
 package me.eunsil.springbootdeveloper.controller;
 
 import lombok.RequiredArgsConstructor;
-import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import me.eunsil.springbootdeveloper.dto.OptimizedRouteDTO;
 import me.eunsil.springbootdeveloper.dto.RouteDTO;
-import me.eunsil.springbootdeveloper.dto.SpotCoordinate;
-import me.eunsil.springbootdeveloper.service.CourseService;
-import me.eunsil.springbootdeveloper.service.KakaoMapService;
+import me.eunsil.springbootdeveloper.service.RouteService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,38 +12,41 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/routes")
 public class RouteController {
 
-    private final CourseService courseService;
-    private final KakaoMapService kakaoMapService;
+    private final RouteService routeService;
 
     @GetMapping("/{courseId}")
     public ResponseEntity<RouteDTO> getRouteInfo(@PathVariable String courseId) {
         try {
-            Course course = courseService.getCourseById(courseId);
-            List<SpotCoordinate> coordinates = new ArrayList<>();
+            // 저장된 좌표는 그대로 쓰고, 없는 스팟만 동시에 좌표 변환
+            return ResponseEntity.ok(routeService.getRoute(courseId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new RouteDTO(new ArrayList<>()));
+        }
+    }
 
-            // 각 일자별 스팟 좌표 변환
-            for (Course.Day day : course.getDays()) {
-                if (day.getSpots() != null) {
-                    List<SpotCoordinate> dayCoordinates = day.getSpots().stream()
-                        .filter(spot -> spot.getAddress() != null && !spot.getAddress().isEmpty())
-                        .map(spot -> kakaoMapService.getCoordinates(spot))
-                        .collect(Collectors.toList());
-                    coordinates.addAll(dayCoordinates);
-                }
-            }
+    // 일자별 이동 거리, 영역, 스팟 간 거리 행렬 (코스를 수정할 때 미리 계산해 둔 요약)
+    @GetMapping("/{courseId}/summary")
+    public ResponseEntity<CourseRoute> getRouteSummary(@PathVariable String courseId) {
+        try {
+            return ResponseEntity.ok(routeService.getRouteSummary(courseId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            return ResponseEntity.ok(new RouteDTO(coordinates));
+    // 일자별로 이동 거리가 가장 짧은 방문 순서 (저장하지 않음)
+    @GetMapping("/{courseId}/optimized")
+    public ResponseEntity<OptimizedRouteDTO> getOptimizedRoute(@PathVariable String courseId) {
+        try {
+            return ResponseEntity.ok(routeService.getOptimizedRoute(courseId));
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new RouteDTO(new ArrayList<>()));
+            return ResponseEntity.badRequest().body(new OptimizedRouteDTO(new ArrayList<>()));
         }
     }
 }
-
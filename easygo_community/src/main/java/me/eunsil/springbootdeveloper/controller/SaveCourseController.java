@@ -2,7 +2,12 @@ package me.eunsil.springbootdeveloper.controller;
 
 import lombok.RequiredArgsConstructor;
 import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.CoursePatchRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSpotRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSummaryResponse;
 import me.eunsil.springbootdeveloper.service.CourseService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -33,6 +38,28 @@ public class SaveCourseController {
         return ResponseEntity.ok(courses);
     }
 
+    // 내 코스 목록 (요약만, 최신순 커서 페이지)
+    @GetMapping("/user/summaries")
+    public ResponseEntity<CourseSummaryResponse> getUserCourseSummaries(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.ok(courseService.getUserCourseSummaries(userDetails.getUsername(), cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{courseId}")
+    public ResponseEntity<Course> getCourse(
+        @PathVariable("courseId") String courseId,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        return ResponseEntity.ok(courseService.getUserCourse(courseId, userDetails.getUsername()));
+    }
+
     @DeleteMapping("/{courseId}")
     public ResponseEntity<Void> deleteCourse(
         @PathVariable("courseId") String courseId,
@@ -48,8 +75,73 @@ public class SaveCourseController {
         @RequestBody Course course,
         @AuthenticationPrincipal UserDetails userDetails
     ) {
-        Course updatedCourse = courseService.updateCourse(courseId, course, userDetails.getUsername());
-        return ResponseEntity.ok(updatedCourse);
+        try {
+            Course updatedCourse = courseService.updateCourse(courseId, course, userDetails.getUsername());
+            return ResponseEntity.ok(updatedCourse);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // 이름/태그 부분 수정
+    @PatchMapping("/{courseId}")
+    public ResponseEntity<Course> patchCourse(
+        @PathVariable("courseId") String courseId,
+        @RequestBody CoursePatchRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.ok(courseService.patchCourse(courseId, userDetails.getUsername(), request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
-}
 
+    @PostMapping("/{courseId}/days/{dayIndex}/spots")
+    public ResponseEntity<Course> addSpot(
+        @PathVariable("courseId") String courseId,
+        @PathVariable("dayIndex") int dayIndex,
+        @RequestBody CourseSpotRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.ok(courseService.addSpot(courseId, userDetails.getUsername(), dayIndex, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PutMapping("/{courseId}/spots/{spotId}")
+    public ResponseEntity<Course> updateSpot(
+        @PathVariable("courseId") String courseId,
+        @PathVariable("spotId") String spotId,
+        @RequestBody CourseSpotRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.ok(courseService.updateSpot(courseId, userDetails.getUsername(), spotId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/{courseId}/spots/{spotId}")
+    public ResponseEntity<Course> removeSpot(
+        @PathVariable("courseId") String courseId,
+        @PathVariable("spotId") String spotId,
+        @RequestParam(value = "version", required = false) Long version,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.ok(courseService.removeSpot(courseId, userDetails.getUsername(), spotId, version));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
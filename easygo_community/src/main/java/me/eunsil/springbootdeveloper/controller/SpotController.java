@@ -0,0 +1,49 @@
+package me.eunsil.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.dto.SpotStat;
+import me.eunsil.springbootdeveloper.service.SpotSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/spots")
+public class SpotController {
+
+    private final SpotSearchService spotSearchService;
+
+    // 중심에서 radiusKm 안에 있는 장소 (가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<SpotStat>> getNearbySpots(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(spotSearchService.findNearby(lat, lng, radiusKm, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 지도 영역 안에서 많이 담긴 장소
+    @GetMapping("/popular")
+    public ResponseEntity<List<SpotStat>> getPopularSpots(
+            @RequestParam("swLat") double swLat,
+            @RequestParam("swLng") double swLng,
+            @RequestParam("neLat") double neLat,
+            @RequestParam("neLng") double neLng,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(spotSearchService.findPopular(swLat, swLng, neLat, neLng, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -52,8 +52,8 @@ public class UserApiController {
         String email = authentication.getName();
         String nickname = request.get("nickname");
         
-        log.info("Received nickname update request for email: {}", email);
-        log.info("New nickname: {}", nickname);
+        log.debug("Received nickname update request for email: {}", email);
+        log.debug("New nickname: {}", nickname);
         
         userService.updateNickname(nickname, email);
         return ResponseEntity.ok().build();
@@ -103,10 +103,7 @@ public class UserApiController {
                                  HttpServletRequest request,
                                  HttpServletResponse response) {
         try {
-            log.info("Login attempt - Email: {}", loginuser.getEmail());
-            // 실제 운영 환경에서는 비밀번호를 로그에 출력하면 안됩니다!
-            // 테스트 목적으로만 사용하세요
-            log.debug("Attempting login with password: {}", loginuser.getPassword());
+            log.debug("Login attempt - Email: {}", loginuser.getEmail());
 
             // UsernamePasswordAuthenticationToken을 사용해 인증
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -122,8 +119,8 @@ public class UserApiController {
             User user = (User) authentication.getPrincipal();
             
             // 사용자 정보 로깅
-            log.info("Authenticated user: {}", user);
-            log.info("User nickname: {}", user.getNickname());
+            log.debug("Authenticated user: {}", user);
+            log.debug("User nickname: {}", user.getNickname());
             
             // 리프레시 토큰 생성 -> 저장 -> 쿠키에 저장
             String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION);
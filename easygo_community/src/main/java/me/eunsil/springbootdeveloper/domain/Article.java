@@ -48,15 +48,19 @@ public class Article {
     @ElementCollection  // 컬렉션 매핑
     @CollectionTable(
         name = "article_file_urls",  // 새로운 테이블 이름
-        joinColumns = @JoinColumn(name = "article_id")  // 외래 키
+        joinColumns = @JoinColumn(name = "article_id"),  // 외래 키
+        indexes = @Index(name = "idx_article_file_urls_file_url", columnList = "file_url")  // 파일 참조 수 조회용
     )
+    @OrderColumn(name = "file_order")  // 첨부 순서 (첫 번째 파일이 목록 썸네일)
     @Column(name = "file_url")
     private List<String> fileUrls = new ArrayList<>();  // 파일 URL 목록
 
-    @Column(columnDefinition = "bigint default 0")
+    // 조회수는 ViewCountBuffer가 SQL 증감으로만 갱신하므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(columnDefinition = "bigint default 0", updatable = false)
     private Long viewCount = 0L;
 
-    @Column(name = "like_count", columnDefinition = "bigint default 0")
+    // 좋아요 수도 BlogService.toggleLike에서 SQL 증감으로만 갱신
+    @Column(name = "like_count", columnDefinition = "bigint default 0", updatable = false)
     private Long likeCount = 0L;
 
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -92,19 +96,4 @@ public class Article {
     public void setFileUrls(List<String> fileUrls) {
         this.fileUrls = fileUrls;
     }
-
-    // 조회수 증가
-    public void incrementViewCount() {
-        this.viewCount = this.viewCount + 1;
-    }
-
-    // 좋아요 수 증가
-    public void incrementLikeCount() {
-        this.likeCount = this.likeCount + 1;
-    }
-
-    // 좋아요 수 감소
-    public void decrementLikeCount() {
-        this.likeCount = Math.max(0, this.likeCount - 1);
-    }
 }
\ No newline at end of file
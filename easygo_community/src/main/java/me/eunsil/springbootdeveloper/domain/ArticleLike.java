@@ -20,7 +20,8 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "article_likes")
+@Table(name = "article_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_likes_article_user", columnNames = {"article_id", "user_id"}))
 public class ArticleLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
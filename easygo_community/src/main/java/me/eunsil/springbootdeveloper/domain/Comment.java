@@ -13,6 +13,12 @@ import java.util.List;
 
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@Table(indexes = {
+        // 원댓글 페이지 조회: article_id, parent_id IS NULL 조건 안에서 (created_at, id) 순으로 읽고 LIMIT에서 멈춤
+        @Index(name = "idx_comment_article_root", columnList = "article_id, parent_id, created_at, id"),
+        // 스레드의 대댓글을 재귀로 따라 내려갈 때 사용
+        @Index(name = "idx_comment_parent", columnList = "parent_id")
+})
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
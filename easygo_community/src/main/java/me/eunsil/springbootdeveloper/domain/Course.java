@@ -1,12 +1,17 @@
 package me.eunsil.springbootdeveloper.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.TypeAlias;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,13 +19,14 @@ import java.util.List;
 
 @Document(collection = "courses")
 @TypeAlias("Course")
+// 내 코스 목록(최신순 keyset 페이지)용. userId 단독 조회도 이 인덱스의 앞부분으로 처리
+@CompoundIndex(name = "userId_createdAt_id", def = "{'userId': 1, 'createdAt': -1, '_id': -1}")
 @Data
 @NoArgsConstructor
 public class Course {
     @Id
     private String id;
 
-    @org.springframework.data.mongodb.core.index.Indexed
     private String userId;
     private String name;
     private String location;
@@ -29,6 +35,9 @@ public class Course {
     @CreatedDate
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 부분 수정 때마다 1씩 증가. 클라이언트가 읽은 버전을 보내면 그 사이 다른 수정이 있었는지 확인
+    @Version
+    private Long version;
 
     @Data
     @NoArgsConstructor
@@ -40,12 +49,25 @@ public class Course {
     @Data
     @NoArgsConstructor
     public static class Spot {
+        // 스팟 단위 수정/삭제용 식별자 (배열 위치는 다른 수정으로 바뀔 수 있으므로)
+        // id로 두면 중첩 문서에서도 _id로 매핑되므로 이름을 따로 둠
+        private String spotId;
         private String name;
         private String time;
         private String address;
         private Coordinates coordinates;
         private String description;
         private String category;
+        // coordinates와 같은 위치의 GeoJSON 점 ([lng, lat]). 근처/영역 스팟 검색용 2dsphere 인덱스
+        // setCoordinates에서 같이 채우므로 API로는 주고받지 않음
+        @JsonIgnore
+        @GeoSpatialIndexed(name = "days_spots_point_2dsphere", type = GeoSpatialIndexType.GEO_2DSPHERE)
+        private GeoJsonPoint point;
+
+        public void setCoordinates(Coordinates coordinates) {
+            this.coordinates = coordinates;
+            this.point = coordinates != null && coordinates.isValid() ? coordinates.toPoint() : null;
+        }
     }
 
     @Data
@@ -58,5 +80,15 @@ public class Course {
             this.lat = lat;
             this.lng = lng;
         }
+
+        // 범위를 벗어난 좌표는 2dsphere 인덱스에 넣을 수 없음 (문서 저장 자체가 실패)
+        @JsonIgnore
+        public boolean isValid() {
+            return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+        }
+
+        public GeoJsonPoint toPoint() {
+            return new GeoJsonPoint(lng, lat);
+        }
     }
 }
@@ -0,0 +1,79 @@
+package me.eunsil.springbootdeveloper.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 코스 경로 요약 (코스 id가 키). 코스를 저장/수정할 때 미리 계산해 두고 경로 조회는 이 문서 하나만 읽음
+// 코스 문서에 넣으면 목록/상세 조회마다 거리 행렬까지 읽게 되므로 컬렉션을 따로 둠
+@Document(collection = "course_routes")
+@TypeAlias("CourseRoute")
+@Data
+@NoArgsConstructor
+public class CourseRoute {
+    @Id
+    private String courseId;
+    private String spotsHash;       // 스팟 내용(순서, 이름, 주소, 시간, 좌표) 해시. 같으면 다시 계산하지 않음
+    private long courseVersion;     // 계산에 쓴 코스 버전. 늦게 끝난 이전 버전 계산이 덮어쓰지 않도록
+    private boolean complete;       // 주소가 있는 스팟이 모두 좌표가 있거나 찾을 수 없는 주소로 확인됐는지 (아니면 조회 때 지오코딩)
+    private List<String> unresolvedAddresses;   // 지오코딩으로 찾을 수 없었던 주소 (경로에서 빠짐, 코스가 바뀌기 전까지 다시 찾지 않음)
+    private double distanceKm;
+    private BoundingBox bounds;
+    private List<DayRoute> days;
+    private LocalDateTime computedAt;
+
+    @Data
+    @NoArgsConstructor
+    public static class DayRoute {
+        private String date;
+        private List<RoutePoint> points;     // 좌표가 있는 스팟만, 저장된 순서대로
+        private double[] legDistancesKm;     // points[i] -> points[i + 1]
+        private double distanceKm;
+        private double[] distanceMatrixKm;   // 모든 쌍의 거리. 상삼각(i < j)을 행 순서로 펼친 것 (스팟이 너무 많은 날은 null)
+        private BoundingBox bounds;
+
+        // points[i]와 points[j] 사이 거리
+        public double distanceBetween(int i, int j) {
+            if (i == j) {
+                return 0;
+            }
+            int row = Math.min(i, j);
+            int col = Math.max(i, j);
+            if (distanceMatrixKm == null) {
+                RoutePoint from = points.get(row);
+                RoutePoint to = points.get(col);
+                return GeoUtil.distanceKm(from.getLat(), from.getLng(), to.getLat(), to.getLng());
+            }
+            int n = points.size();
+            return distanceMatrixKm[row * (2 * n - row - 1) / 2 + (col - row - 1)];
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoutePoint {
+        private int spotIndex;      // 그날 spots 안에서의 위치
+        private String name;
+        private String time;
+        private double lat;
+        private double lng;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BoundingBox {
+        private double minLat;
+        private double minLng;
+        private double maxLat;
+        private double maxLng;
+    }
+}
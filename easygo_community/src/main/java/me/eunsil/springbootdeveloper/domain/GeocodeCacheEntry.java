@@ -0,0 +1,46 @@
+package me.eunsil.springbootdeveloper.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// 주소 -> 좌표 지오코딩 결과 캐시 (정규화된 주소가 키)
+// lat/lng가 null이면 "주소를 찾을 수 없음" 결과를 캐시한 것
+@Document(collection = "geocode_cache")
+@Data
+@NoArgsConstructor
+public class GeocodeCacheEntry {
+    @Id
+    private String address;
+    private Double lat;
+    private Double lng;
+    private Instant updatedAt;
+
+    // TTL 인덱스: expiresAt이 지나면 Mongo가 문서를 삭제
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+
+    public GeocodeCacheEntry(String address, Course.Coordinates coordinates, Instant updatedAt, Instant expiresAt) {
+        this.address = address;
+        this.lat = coordinates != null ? coordinates.getLat() : null;
+        this.lng = coordinates != null ? coordinates.getLng() : null;
+        this.updatedAt = updatedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isFound() {
+        return lat != null && lng != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    public Course.Coordinates toCoordinates() {
+        return isFound() ? new Course.Coordinates(lat, lng) : null;
+    }
+}
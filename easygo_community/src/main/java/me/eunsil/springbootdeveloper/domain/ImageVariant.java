@@ -0,0 +1,30 @@
+package me.eunsil.springbootdeveloper.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 업로드 파일별로 만들어 둔 축소본 URL (ImageVariantService가 생성 직후 기록)
+// 조회할 때 파일 시스템을 확인하지 않도록 사용. 축소본이 없으면 원본 URL이 들어 있음
+@Entity
+@Getter
+@Table(name = "image_variants")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ImageVariant {
+
+    @Id
+    @Column(name = "file_url")
+    private String fileUrl;
+
+    @Column(name = "thumbnail_url", nullable = false)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", nullable = false)
+    private String mediumUrl;
+}
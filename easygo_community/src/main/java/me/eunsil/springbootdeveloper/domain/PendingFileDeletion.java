@@ -0,0 +1,32 @@
+package me.eunsil.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 삭제/수정으로 빠진 첨부 파일. 게시글 변경과 같은 트랜잭션에 기록하고, 커밋 후 FileReclamationQueue가 처리
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "pending_file_deletions", indexes = @Index(name = "idx_pending_file_deletions_requested_at", columnList = "requested_at"))
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "file_url", nullable = false)
+    private String fileUrl;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    public PendingFileDeletion(String fileUrl) {
+        this.fileUrl = fileUrl;
+        this.requestedAt = LocalDateTime.now();
+    }
+}
@@ -14,6 +14,7 @@ public class ArticleListViewResponse {
     private final LocalDateTime createdAt;
     private final Long viewCount;
     private final Long likeCount;
+    private final String thumbnailUrl;  // 첫 번째 첨부 이미지의 썸네일 (없으면 null)
 
     public ArticleListViewResponse(Article article) {
         this.id = article.getId();
@@ -23,5 +24,33 @@ public class ArticleListViewResponse {
         this.createdAt = article.getCreatedAt();
         this.viewCount = article.getViewCount();
         this.likeCount = article.getLikeCount();
+        this.thumbnailUrl = null;
+    }
+
+    // JPQL 생성자 프로젝션용 (BlogRepository.findFeed)
+    public ArticleListViewResponse(Long id, String title, String content, String nickname,
+                                   LocalDateTime createdAt, Long viewCount, Long likeCount) {
+        this(id, title, content, nickname, createdAt, viewCount, likeCount, null);
+    }
+
+    private ArticleListViewResponse(Long id, String title, String content, String nickname,
+                                    LocalDateTime createdAt, Long viewCount, Long likeCount, String thumbnailUrl) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.nickname = nickname;
+        this.createdAt = createdAt;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    // 미반영 조회수를 합친 사본
+    public ArticleListViewResponse withViewCount(Long viewCount) {
+        return new ArticleListViewResponse(id, title, content, nickname, createdAt, viewCount, likeCount, thumbnailUrl);
+    }
+
+    public ArticleListViewResponse withThumbnailUrl(String thumbnailUrl) {
+        return new ArticleListViewResponse(id, title, content, nickname, createdAt, viewCount, likeCount, thumbnailUrl);
     }
 }
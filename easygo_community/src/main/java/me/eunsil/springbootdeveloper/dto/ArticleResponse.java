@@ -17,11 +17,17 @@ public class ArticleResponse {
     private final Long userId;
     private final LocalDateTime createdAt;
     private final List<String> fileUrls;
+    private final List<ImageVariants> images;  // fileUrls와 같은 순서, 썸네일/중간 크기 URL 포함
     private final Long viewCount;
     private final Long likeCount;
     private boolean likecheck;  // liked에서 likecheck로 변경
 
     public ArticleResponse(Article article, boolean likecheck) {  // 파라미터 이름 변경
+        this(article, likecheck, article.getViewCount(), List.of());
+    }
+
+    // viewCount: 버퍼에 쌓인 미반영 조회수까지 합친 값
+    public ArticleResponse(Article article, boolean likecheck, Long viewCount, List<ImageVariants> images) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
@@ -29,7 +35,8 @@ public class ArticleResponse {
         this.userId = article.getUser().getId();
         this.createdAt = article.getCreatedAt();
         this.fileUrls = article.getFileUrls() != null ? article.getFileUrls() : new ArrayList<>();
-        this.viewCount = article.getViewCount();
+        this.images = images;
+        this.viewCount = viewCount;
         this.likeCount = article.getLikeCount();
         this.likecheck = likecheck;  // 변수명 변경
     }
@@ -0,0 +1,21 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ArticleSearchResult {
+    private final Long id;
+    private final String title;
+    private final String highlightedTitle;  // 검색어를 <mark>로 감싼 HTML (나머지는 이스케이프됨)
+    private final String snippet;           // 본문에서 검색어 주변만 잘라 <mark> 처리한 HTML
+    private final String nickname;
+    private final LocalDateTime createdAt;
+    private final Long viewCount;
+    private final Long likeCount;
+    private final BigDecimal score;         // 관련도 (클수록 먼저)
+}
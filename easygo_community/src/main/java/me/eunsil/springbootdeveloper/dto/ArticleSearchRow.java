@@ -0,0 +1,9 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 검색 쿼리 결과 한 행 (하이라이트 전 원본)
+public record ArticleSearchRow(Long id, String title, String content, String nickname,
+                               LocalDateTime createdAt, Long viewCount, Long likeCount, BigDecimal score) {
+}
@@ -0,0 +1,20 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 댓글 트리 조립용 평면 조회 결과 (CommentRepository.findRowsByArticleId)
+@Getter
+@AllArgsConstructor
+public class CommentRow {
+    private final Long id;
+    private final Long articleId;
+    private final String content;
+    private final Long userId;
+    private final String nickname;
+    private final LocalDateTime createdAt;
+    private final Long parentId;
+    private final Integer depth;
+}
@@ -0,0 +1,19 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 코스 이름/태그 부분 수정. 보낸 필드만 바꿈
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CoursePatchRequest {
+
+    private Long version;   // 마지막으로 읽은 버전 (없으면 버전 확인 없이 적용)
+    private String name;
+    private List<String> tags;
+
+}
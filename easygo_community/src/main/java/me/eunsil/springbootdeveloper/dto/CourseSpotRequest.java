@@ -0,0 +1,18 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.eunsil.springbootdeveloper.domain.Course;
+
+// 스팟 추가/수정. position은 추가할 때만 사용 (없으면 그날 마지막에 추가)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CourseSpotRequest {
+
+    private Long version;   // 마지막으로 읽은 버전 (없으면 버전 확인 없이 적용)
+    private Integer position;
+    private Course.Spot spot;
+
+}
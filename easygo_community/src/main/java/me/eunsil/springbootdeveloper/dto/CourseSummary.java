@@ -0,0 +1,22 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 코스 목록용 요약 (days/spots는 포함하지 않고 첫날/마지막 날짜만)
+@Getter
+@AllArgsConstructor
+public class CourseSummary {
+    private final String id;
+    private final String name;
+    private final String location;
+    private final List<String> tags;
+    private final String startDate;
+    private final String endDate;
+    private final int dayCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CourseSummaryResponse {
+    private final List<CourseSummary> courses;
+    private final String nextCursor;  // 다음 페이지 요청 시 그대로 넘겨주는 값 (마지막 페이지면 null)
+    private final boolean hasNext;
+}
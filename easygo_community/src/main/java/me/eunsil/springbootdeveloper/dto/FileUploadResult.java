@@ -0,0 +1,25 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 업로드 파일 하나의 처리 결과 (저장 성공 시 url, 실패 시 error)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileUploadResult {
+    private final String originalFilename;
+    private final boolean stored;
+    private final String url;
+    private final String contentType;  // 매직 바이트로 판별한 실제 형식
+    private final long size;
+    private final String error;
+
+    public static FileUploadResult stored(String originalFilename, String url, String contentType, long size) {
+        return new FileUploadResult(originalFilename, true, url, contentType, size, null);
+    }
+
+    public static FileUploadResult rejected(String originalFilename, String error) {
+        return new FileUploadResult(originalFilename, false, null, null, 0L, error);
+    }
+}
@@ -0,0 +1,13 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 첨부 이미지 하나의 URL 묶음. 변형본이 아직 없으면 원본 URL로 채워짐
+@Getter
+@AllArgsConstructor
+public class ImageVariants {
+    private final String original;
+    private final String thumbnail;  // 목록/미리보기용 (가로 320px)
+    private final String medium;     // 상세 화면용 (가로 1280px)
+}
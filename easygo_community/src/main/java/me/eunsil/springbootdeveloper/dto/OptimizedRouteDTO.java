@@ -0,0 +1,24 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.eunsil.springbootdeveloper.domain.Course;
+
+import java.util.List;
+
+// 일자별 최적화한 방문 순서. 저장은 하지 않으므로 적용하려면 spots 순서로 코스를 수정
+@Getter
+@AllArgsConstructor
+public class OptimizedRouteDTO {
+    private List<DayRoute> days;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DayRoute {
+        private int dayIndex;
+        private String date;
+        private List<Course.Spot> spots;      // 좌표를 못 찾은 스팟은 원래 자리 그대로
+        private double distanceKm;            // 최적화한 순서의 이동 거리
+        private double originalDistanceKm;    // 저장된 순서의 이동 거리
+    }
+}
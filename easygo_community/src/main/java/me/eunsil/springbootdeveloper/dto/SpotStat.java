@@ -0,0 +1,17 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 사용자의 코스에 담긴 같은 장소(이름 + 주소) 집계
+@Getter
+@AllArgsConstructor
+public class SpotStat {
+    private final String name;
+    private final String address;
+    private final String category;
+    private final double lat;
+    private final double lng;
+    private final int courseCount;      // 이 장소를 담은 코스 수
+    private final Double distanceKm;    // 근처 검색일 때만 (중심에서의 거리, 집계 단계에서 계산)
+}
@@ -0,0 +1,19 @@
+package me.eunsil.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.eunsil.springbootdeveloper.domain.User;
+
+// 요청마다 필요한 최소한의 사용자 정보 (UserService 캐시에 저장되는 값)
+@Getter
+@AllArgsConstructor
+public class UserSnapshot {
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final boolean withdrawn;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getNickname(), user.isWithdrawn());
+    }
+}
@@ -0,0 +1,25 @@
+package me.eunsil.springbootdeveloper.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 외부 API(Kakao 등) 호출 실패. retryable이면 잠시 후 다시 시도할 수 있는 오류 (타임아웃, 5xx, 429)
+@ResponseStatus(HttpStatus.BAD_GATEWAY)
+public class ExternalApiException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public ExternalApiException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public ExternalApiException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,45 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Article 카운터 컬럼을 엔티티 로딩 없이 SQL 증감(delta)으로만 갱신하는 저장소
+@Repository
+@RequiredArgsConstructor
+public class ArticleCounterRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+            "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE article SET like_count = like_count + ? WHERE id = ?";
+    private static final String FIND_LIKE_COUNT_SQL =
+            "SELECT like_count FROM article WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // articleId -> 증가분을 한 번의 배치 UPDATE로 반영
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((articleId, delta) -> args.add(new Object[]{delta, articleId}));
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, args);
+    }
+
+    // 좋아요 행이 실제로 추가/삭제된 만큼만 원자적으로 증감 (호출한 트랜잭션 안에서 실행)
+    public void addLikeCount(Long articleId, long delta) {
+        jdbcTemplate.update(ADD_LIKE_COUNT_SQL, delta, articleId);
+    }
+
+    public long findLikeCount(Long articleId) {
+        Long likeCount = jdbcTemplate.queryForObject(FIND_LIKE_COUNT_SQL, Long.class, articleId);
+        return likeCount != null ? likeCount : 0L;
+    }
+}
@@ -4,6 +4,8 @@ import me.eunsil.springbootdeveloper.domain.Article;
 import me.eunsil.springbootdeveloper.domain.ArticleLike;
 import me.eunsil.springbootdeveloper.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,14 @@ import org.springframework.stereotype.Repository;
 public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long> {
     boolean existsByArticleIdAndUserId(@Param("articleId") Long articleId, @Param("userId") Long userId);
     void deleteByArticleAndUser(Article article, User user);
+
+    // 좋아요 취소. 지워진 행 수(0 또는 1)를 반환
+    @Modifying
+    @Query(value = "DELETE FROM article_likes WHERE article_id = :articleId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("articleId") Long articleId, @Param("userId") Long userId);
+
+    // 좋아요 추가. (article_id, user_id) 유니크 제약에 걸리면 아무것도 하지 않고 0 반환
+    @Modifying
+    @Query(value = "INSERT INTO article_likes (article_id, user_id, created_at) VALUES (:articleId, :userId, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertLike(@Param("articleId") Long articleId, @Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,124 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.dto.ArticleSearchRow;
+import me.eunsil.springbootdeveloper.util.CursorUtil.ScoreCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// 게시글 검색 (PostgreSQL pg_trgm)
+// 검색어마다 제목/본문/작성자 닉네임 중 하나에 부분 일치해야 하고,
+// word_similarity 기반 점수 -> id 순으로 정렬해서 (점수, id) 커서로 페이지를 이어감
+//
+// 점수 계산은 인덱스를 쓸 수 없으므로, 먼저 후보를 조건에 맞는 최신 글 maxCandidates개로 제한한 뒤 그 안에서만 점수를 매김
+// (결과는 "최신 maxCandidates개 안에서의 관련도순". 그보다 오래된 글은 검색어를 더 구체적으로 해야 나옴)
+// - 3글자 이상 검색어: 제목/본문/닉네임 trigram GIN 인덱스로 각각 찾아서 합침 (OR로 묶으면 인덱스를 못 씀)
+// - 3글자 미만 검색어(예: "제주")만 있으면 trigram이 만들어지지 않아 인덱스를 못 쓰므로
+//   최신 글 shortQueryScanLimit개만 훑음
+@Repository
+@RequiredArgsConstructor
+public class ArticleSearchRepository {
+
+    // pg_trgm은 3글자 단위로 인덱싱하므로 이보다 짧은 검색어는 인덱스로 찾을 수 없음
+    static final int MIN_INDEXED_TERM_LENGTH = 3;
+
+    private static final String SELECT_SQL =
+            "SELECT * FROM (" +
+            " SELECT a.id, a.title, a.content, u.nickname, a.createdat, a.view_count, a.like_count," +
+            "  round((2 * word_similarity(:query, a.title)" +
+            "   + word_similarity(:query, a.content)" +
+            "   + word_similarity(:query, coalesce(u.nickname, '')))::numeric, 6) AS score" +
+            " FROM (" +
+            "  SELECT a.id FROM article a LEFT JOIN users u ON u.id = a.user_id" +
+            "  WHERE a.id IN (%s) AND %s" +
+            "  ORDER BY a.id DESC LIMIT :maxCandidates" +
+            " ) c JOIN article a ON a.id = c.id LEFT JOIN users u ON u.id = a.user_id" +
+            ") s";
+    // 인덱스를 쓰는 검색어 하나의 일치 id. 칼럼마다 따로 찾아서 UNION
+    private static final String INDEXED_TERM_IDS =
+            "SELECT id FROM article WHERE title ILIKE :%1$s" +
+            " UNION SELECT id FROM article WHERE content ILIKE :%1$s" +
+            " UNION SELECT a.id FROM article a JOIN users u ON u.id = a.user_id WHERE u.nickname ILIKE :%1$s";
+    private static final String RECENT_IDS =
+            "SELECT id FROM article ORDER BY id DESC LIMIT :scanLimit";
+    private static final String TERM_CONDITION =
+            "(a.title ILIKE :%1$s OR a.content ILIKE :%1$s OR u.nickname ILIKE :%1$s)";
+    private static final String AFTER_CURSOR =
+            " WHERE (s.score < :cursorScore OR (s.score = :cursorScore AND s.id < :cursorId))";
+    private static final String ORDER_AND_LIMIT =
+            " ORDER BY s.score DESC, s.id DESC LIMIT :limit";
+
+    // 점수를 매길 후보 수 상한
+    @Value("${article.search.max-candidates:1000}")
+    private int maxCandidates;
+
+    // 짧은 검색어만 있을 때 훑을 최신 글 수
+    @Value("${article.search.short-query-scan-limit:5000}")
+    private int shortQueryScanLimit;
+
+    private static final RowMapper<ArticleSearchRow> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("createdat");
+        return new ArticleSearchRow(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("nickname"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getLong("view_count"),
+                rs.getLong("like_count"),
+                rs.getBigDecimal("score"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // terms: 모두 포함해야 하는 검색어 (AND), query: 점수 계산용 원래 검색어
+    public List<ArticleSearchRow> search(String query, List<String> terms, ScoreCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("maxCandidates", maxCandidates)
+                .addValue("limit", limit);
+
+        StringBuilder matchedIds = new StringBuilder();
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            String name = "term" + i;
+            if (i > 0) {
+                where.append(" AND ");
+            }
+            where.append(String.format(TERM_CONDITION, name));
+            params.addValue(name, "%" + escapeLike(terms.get(i)) + "%");
+
+            if (terms.get(i).length() >= MIN_INDEXED_TERM_LENGTH) {
+                if (!matchedIds.isEmpty()) {
+                    matchedIds.append(" INTERSECT ");
+                }
+                matchedIds.append("(").append(String.format(INDEXED_TERM_IDS, name)).append(")");
+            }
+        }
+        if (matchedIds.isEmpty()) {
+            matchedIds.append(RECENT_IDS);
+            params.addValue("scanLimit", shortQueryScanLimit);
+        }
+
+        StringBuilder sql = new StringBuilder(String.format(SELECT_SQL, matchedIds, where));
+        if (cursor != null) {
+            sql.append(AFTER_CURSOR);
+            params.addValue("cursorScore", cursor.score());
+            params.addValue("cursorId", cursor.id());
+        }
+        sql.append(ORDER_AND_LIMIT);
+
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    // LIKE 패턴 문자(%, _)와 이스케이프 문자(\)를 그대로 검색되도록 처리
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,15 +1,34 @@
 package me.eunsil.springbootdeveloper.repository;
 
 import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.dto.ArticleListViewResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BlogRepository extends JpaRepository<Article, Long> {
 
     @Query("SELECT CASE WHEN COUNT(al) > 0 THEN true ELSE false END FROM ArticleLike al WHERE al.article.id = :articleId AND al.user.id = :userId")
     boolean existsByArticleIdAndUserId(@Param("articleId") Long articleId, @Param("userId") Long userId);
+
+    // 게시글 피드 첫 페이지 (엔티티 대신 목록에 필요한 컬럼과 작성자 닉네임만 한 번에 조회)
+    @Query("SELECT new me.eunsil.springbootdeveloper.dto.ArticleListViewResponse(a.id, a.title, a.content, u.nickname, a.createdAt, a.viewCount, a.likeCount) " +
+            "FROM Article a LEFT JOIN a.user u ORDER BY a.id DESC")
+    List<ArticleListViewResponse> findFeed(Pageable pageable);
+
+    // 커서(마지막으로 받은 게시글 id) 이후의 피드 조회
+    @Query("SELECT new me.eunsil.springbootdeveloper.dto.ArticleListViewResponse(a.id, a.title, a.content, u.nickname, a.createdAt, a.viewCount, a.likeCount) " +
+            "FROM Article a LEFT JOIN a.user u WHERE a.id < :cursorId ORDER BY a.id DESC")
+    List<ArticleListViewResponse> findFeedAfter(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 피드 페이지 게시글들의 첫 번째 첨부 파일 URL을 한 번에 조회 ([articleId, fileUrl])
+    @Query("SELECT a.id, f FROM Article a JOIN a.fileUrls f WHERE a.id IN :articleIds AND index(f) = 0")
+    List<Object[]> findFirstFileUrlsByArticleIds(@Param("articleIds") Collection<Long> articleIds);
 }
@@ -1,16 +1,19 @@
 package me.eunsil.springbootdeveloper.repository;
 
 import me.eunsil.springbootdeveloper.domain.Comment;
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
  // 메서드 정의
     List<Comment> findByArticleId(Long id);
 
@@ -20,4 +23,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     // 특정 댓글의 대댓글 조회
     List<Comment> findByParentIdOrderByCreatedAt(Long parentId);
+
+    // 게시글의 댓글 전체를 작성자 닉네임과 함께 한 번에 평면 조회 (maxDepth 이하만)
+    @Query("SELECT new me.eunsil.springbootdeveloper.dto.CommentRow(c.id, c.article.id, c.content, u.id, u.nickname, c.createdAt, c.parent.id, c.depth) " +
+            "FROM Comment c LEFT JOIN c.user u " +
+            "WHERE c.article.id = :articleId AND c.depth <= :maxDepth ORDER BY c.createdAt, c.id")
+    List<CommentRow> findRowsByArticleId(@Param("articleId") Long articleId, @Param("maxDepth") Integer maxDepth);
+
+    // 원댓글 페이지: (createdAt, id) 키셋으로 커서 다음부터 pageable 크기만큼 (idx_comment_article_root 인덱스 순서 그대로)
+    @Query("SELECT c.id FROM Comment c WHERE c.article.id = :articleId AND c.parent IS NULL ORDER BY c.createdAt, c.id")
+    List<Long> findRootIds(@Param("articleId") Long articleId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.article.id = :articleId AND c.parent IS NULL " +
+            "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Long> findRootIdsAfter(@Param("articleId") Long articleId, @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    // 주어진 원댓글들과 그 아래 대댓글을 (maxDepth 이하만) 작성자 닉네임과 함께 평면 조회. createdAt, id 순
+    List<CommentRow> findThreadRows(Collection<Long> rootIds, int maxDepth);
+}
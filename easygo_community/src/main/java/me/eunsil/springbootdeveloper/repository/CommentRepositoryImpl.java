@@ -0,0 +1,53 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+// 원댓글 페이지의 스레드만 재귀 CTE로 조회 (parent_id 인덱스를 따라 내려가므로 게시글의 다른 댓글은 읽지 않음)
+// maxDepth를 넘는 대댓글은 재귀 단계에서 잘라서 그 아래로는 더 내려가지 않음
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final String THREAD_SQL =
+            "WITH RECURSIVE thread (id) AS (" +
+            " SELECT c.id FROM comment c WHERE c.id IN (:rootIds)" +
+            " UNION ALL" +
+            " SELECT c.id FROM comment c JOIN thread t ON c.parent_id = t.id WHERE c.depth <= :maxDepth" +
+            ")" +
+            " SELECT c.id, c.article_id, c.content, u.id AS user_id, u.nickname, c.created_at, c.parent_id, c.depth" +
+            " FROM thread t JOIN comment c ON c.id = t.id LEFT JOIN users u ON u.id = c.user_id" +
+            " ORDER BY c.created_at, c.id";
+
+    private static final RowMapper<CommentRow> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new CommentRow(
+                rs.getLong("id"),
+                rs.getLong("article_id"),
+                rs.getString("content"),
+                rs.getObject("user_id", Long.class),
+                rs.getString("nickname"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getObject("parent_id", Long.class),
+                rs.getInt("depth"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CommentRow> findThreadRows(Collection<Long> rootIds, int maxDepth) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("rootIds", rootIds)
+                .addValue("maxDepth", maxDepth);
+        return jdbcTemplate.query(THREAD_SQL, params, ROW_MAPPER);
+    }
+}
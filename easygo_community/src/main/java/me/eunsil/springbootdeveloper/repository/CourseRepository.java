@@ -4,6 +4,6 @@ import me.eunsil.springbootdeveloper.domain.Course;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import java.util.List;
 
-public interface CourseRepository extends MongoRepository<Course, String> {
+public interface CourseRepository extends MongoRepository<Course, String>, CourseRepositoryCustom {
     List<Course> findByUserId(String userID);
 }
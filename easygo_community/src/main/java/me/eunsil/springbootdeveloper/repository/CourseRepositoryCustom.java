@@ -0,0 +1,44 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.CourseSummary;
+import me.eunsil.springbootdeveloper.dto.SpotStat;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+// MongoTemplate으로 직접 구현하는 Course 쿼리 (CourseRepositoryImpl)
+public interface CourseRepositoryCustom {
+
+    // 좌표를 찾은 스팟들만 days.{i}.spots.{j}.coordinates 경로로 갱신
+    // 그 사이에 주소가 바뀐 코스라면 아무것도 갱신하지 않음
+    boolean updateSpotCoordinates(String courseId, List<SpotCoordinatesUpdate> updates);
+
+    // 코스의 현재 버전만 조회 (version이 없는 예전 코스는 -1, 코스가 없으면 null)
+    Long findVersion(String courseId);
+
+    // 사용자의 코스 요약을 최신순으로 limit개 (after가 있으면 그 다음부터). (userId, createdAt, _id) 인덱스 순서 그대로 읽음
+    List<CourseSummary> findSummaries(String userId, CursorUtil.TimeCursor after, int limit);
+
+    // 본인 코스이고 condition까지 맞을 때만 update를 적용하고 version을 올림 (소유자 확인과 쓰기를 한 번에)
+    // expectedVersion이 있으면 그 버전일 때만 적용. 조건이 하나라도 안 맞으면 null, 맞으면 수정된 코스
+    Course updateIfOwned(String courseId, String userId, Long expectedVersion, Criteria condition, Update update);
+
+    // 중심에서 radiusKm 안에 있는 스팟을 장소별로 집계해서 가까운 순(같으면 담긴 코스가 많은 순)으로 limit개
+    // 해당 스팟이 있는 코스를 가까운 순으로 maxCourses개까지만 봄
+    List<SpotStat> findSpotsNear(double lat, double lng, double radiusKm, int maxCourses, int limit);
+
+    // 영역(남서/북동 모서리) 안의 스팟을 장소별로 집계해서 담긴 코스가 많은 순으로 limit개
+    List<SpotStat> findPopularSpotsWithin(double swLat, double swLng, double neLat, double neLng, int limit);
+
+    // point가 없는 예전 스팟에 coordinates로 point를 채움. 갱신한 코스 수 반환
+    long backfillSpotPoints();
+
+    record SpotCoordinatesUpdate(int dayIndex, int spotIndex, String address, Course.Coordinates coordinates) {
+        String path() {
+            return "days." + dayIndex + ".spots." + spotIndex;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.CourseSummary;
+import me.eunsil.springbootdeveloper.dto.SpotStat;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.aggregation.GeoNearOperation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    private static final String SPOT_POINT = "days.spots.point";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean updateSpotCoordinates(String courseId, List<SpotCoordinatesUpdate> updates) {
+        if (updates.isEmpty()) {
+            return false;
+        }
+        Criteria criteria = Criteria.where("_id").is(courseId);
+        Update update = new Update();
+        for (SpotCoordinatesUpdate spot : updates) {
+            criteria.and(spot.path() + ".address").is(spot.address());
+            update.set(spot.path() + ".coordinates", spot.coordinates());
+            if (spot.coordinates().isValid()) {
+                update.set(spot.path() + ".point", spot.coordinates().toPoint());
+            }
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), update, Course.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public Long findVersion(String courseId) {
+        Query query = Query.query(Criteria.where("_id").is(courseId));
+        query.fields().include("version");
+        Course course = mongoTemplate.findOne(query, Course.class);
+        if (course == null) {
+            return null;
+        }
+        return course.getVersion() != null ? course.getVersion() : -1L;
+    }
+
+    @Override
+    public List<CourseSummary> findSummaries(String userId, CursorUtil.TimeCursor after, int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (after != null) {
+            criteria.orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(new ObjectId(after.id())));
+        }
+
+        // days 배열은 보내지 않고 첫날/마지막 날짜와 일수만 서버에서 계산
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+                Aggregation.limit(limit),
+                Aggregation.project("name", "location", "tags", "createdAt", "updatedAt")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("days.date").elementAt(0)).as("startDate")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("days.date").elementAt(-1)).as("endDate")
+                        .and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull("days").then(List.of()))).as("dayCount"));
+        return mongoTemplate.aggregate(aggregation, Course.class, CourseSummary.class).getMappedResults();
+    }
+
+    @Override
+    public Course updateIfOwned(String courseId, String userId, Long expectedVersion, Criteria condition, Update update) {
+        Criteria criteria = Criteria.where("_id").is(courseId).and("userId").is(userId);
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+        Query query = Query.query(condition == null ? criteria : new Criteria().andOperator(criteria, condition));
+        update.inc("version", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Course.class);
+    }
+
+    @Override
+    public List<SpotStat> findSpotsNear(double lat, double lng, double radiusKm, int maxCourses, int limit) {
+        Distance radius = new Distance(radiusKm, Metrics.KILOMETERS);
+        // $geoNear가 2dsphere 인덱스로 가까운 코스부터 고르고, 코스 안에서는 반경 안의 스팟만 남김
+        NearQuery near = NearQuery.near(new GeoJsonPoint(lng, lat)).maxDistance(radius).spherical(true);
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(new GeoNearOperation(near, "distance").useIndex(SPOT_POINT));
+        stages.add(Aggregation.limit(maxCourses));
+        stages.addAll(spotStatStages(Criteria.where(SPOT_POINT).withinSphere(new Circle(new Point(lng, lat), radius))));
+        // 장소별 거리 계산, 정렬, 자르기까지 서버에서 해서 limit개만 받음
+        stages.add(Aggregation.addFields().addField("distanceKm").withValueOf(distanceKmFrom(lat, lng)).build());
+        stages.add(Aggregation.sort(Sort.by(Sort.Order.asc("distanceKm"), Sort.Order.desc("courseCount"), Sort.Order.asc("name"))));
+        stages.add(Aggregation.limit(limit));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), Course.class, SpotStat.class).getMappedResults();
+    }
+
+    @Override
+    public List<SpotStat> findPopularSpotsWithin(double swLat, double swLng, double neLat, double neLng, int limit) {
+        GeoJsonPolygon box = new GeoJsonPolygon(
+                new Point(swLng, swLat), new Point(neLng, swLat), new Point(neLng, neLat), new Point(swLng, neLat), new Point(swLng, swLat));
+        Criteria inBox = Criteria.where(SPOT_POINT).within(box);
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(inBox));   // 2dsphere 인덱스로 영역 안에 스팟이 있는 코스만
+        stages.addAll(spotStatStages(inBox));
+        stages.add(Aggregation.sort(Sort.by(Sort.Order.desc("courseCount"), Sort.Order.asc("name"))));
+        stages.add(Aggregation.limit(limit));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), Course.class, SpotStat.class).getMappedResults();
+    }
+
+    // 스팟 단위로 펼쳐서 spotFilter에 맞는 것만 장소(이름 + 주소)별로 묶음. 같은 코스에 두 번 담겨도 한 번으로 셈
+    private static List<AggregationOperation> spotStatStages(Criteria spotFilter) {
+        return List.of(
+                Aggregation.unwind("days"),
+                Aggregation.unwind("days.spots"),
+                Aggregation.match(spotFilter),
+                Aggregation.group(Fields.from(Fields.field("name", "days.spots.name"), Fields.field("address", "days.spots.address")))
+                        .addToSet("id").as("courseIds")
+                        .first("days.spots.category").as("category")
+                        .first(SPOT_POINT).as("point"),
+                Aggregation.project("category")
+                        .and("_id.name").as("name")
+                        .and("_id.address").as("address")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("point.coordinates").elementAt(1)).as("lat")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("point.coordinates").elementAt(0)).as("lng")
+                        .and(ArrayOperators.Size.lengthOfArray("courseIds")).as("courseCount"));
+    }
+
+    // 집계된 장소(lat, lng)와 중심 사이의 대원 거리(km). GeoUtil.distanceKm과 같은 haversine 식
+    private static AggregationExpression distanceKmFrom(double lat, double lng) {
+        Document dLat = radians(new Document("$subtract", List.of("$lat", lat)));
+        Document dLng = radians(new Document("$subtract", List.of("$lng", lng)));
+        Document a = new Document("$add", List.of(
+                squaredSin(dLat),
+                new Document("$multiply", List.of(Math.cos(Math.toRadians(lat)), new Document("$cos", radians("$lat")), squaredSin(dLng)))));
+        Document distance = new Document("$multiply", List.of(2 * GeoUtil.EARTH_RADIUS_KM,
+                new Document("$asin", new Document("$min", List.of(1, new Document("$sqrt", a))))));
+        return context -> distance;
+    }
+
+    private static Document radians(Object degrees) {
+        return new Document("$degreesToRadians", degrees);
+    }
+
+    // sin²(angle / 2)
+    private static Document squaredSin(Document angle) {
+        return new Document("$pow", List.of(new Document("$sin", new Document("$divide", List.of(angle, 2))), 2));
+    }
+
+    @Override
+    public long backfillSpotPoints() {
+        // 좌표는 있는데 point가 없는 스팟이 하나라도 있는 코스만, 서버에서 한 번에 갱신
+        Query query = Query.query(Criteria.where("days.spots").elemMatch(Criteria.where("point").exists(false)
+                .and("coordinates.lat").gte(-90).lte(90)
+                .and("coordinates.lng").gte(-180).lte(180)));
+        AggregationExpression days = context -> Document.parse("""
+                { $map: { input: "$days", as: "d", in: { $mergeObjects: ["$$d", { spots: { $map: {
+                    input: { $ifNull: ["$$d.spots", []] }, as: "s", in: { $mergeObjects: ["$$s", { point: { $cond: [
+                        { $and: [
+                            { $gte: ["$$s.coordinates.lat", -90] }, { $lte: ["$$s.coordinates.lat", 90] },
+                            { $gte: ["$$s.coordinates.lng", -180] }, { $lte: ["$$s.coordinates.lng", 180] } ] },
+                        { type: "Point", coordinates: ["$$s.coordinates.lng", "$$s.coordinates.lat"] },
+                        "$$REMOVE" ] } }] } } } }] } } }
+                """);
+        return mongoTemplate.updateMulti(query, AggregationUpdate.update().set("days").toValue(days), Course.class)
+                .getModifiedCount();
+    }
+}
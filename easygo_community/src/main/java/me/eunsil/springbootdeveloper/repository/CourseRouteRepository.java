@@ -0,0 +1,7 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CourseRouteRepository extends MongoRepository<CourseRoute, String>, CourseRouteRepositoryCustom {
+}
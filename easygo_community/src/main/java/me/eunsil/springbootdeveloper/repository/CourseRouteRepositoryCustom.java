@@ -0,0 +1,10 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+
+public interface CourseRouteRepositoryCustom {
+
+    // 저장된 요약보다 새 코스 버전이거나, 같은 버전인데 스팟 내용(지오코딩으로 채운 좌표)이 다를 때만 교체
+    // 교체했으면 true, 이미 같거나 더 새 요약이 있으면 false
+    boolean saveIfNewer(CourseRoute route);
+}
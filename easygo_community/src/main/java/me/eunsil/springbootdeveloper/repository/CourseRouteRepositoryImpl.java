@@ -0,0 +1,30 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+public class CourseRouteRepositoryImpl implements CourseRouteRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean saveIfNewer(CourseRoute route) {
+        Criteria stale = new Criteria().orOperator(
+                Criteria.where("courseVersion").lt(route.getCourseVersion()),
+                Criteria.where("courseVersion").is(route.getCourseVersion()).and("spotsHash").ne(route.getSpotsHash()));
+        Query query = Query.query(Criteria.where("_id").is(route.getCourseId()).andOperator(stale));
+        try {
+            mongoTemplate.findAndReplace(query, route, FindAndReplaceOptions.options().upsert());
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 문서는 있는데 조건이 안 맞아서 upsert가 새로 넣으려다 실패한 것 = 이미 최신
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 업로드 파일이 게시글에서 몇 번 참조되는지 (article_file_urls 기준)
+@Repository
+@RequiredArgsConstructor
+public class FileReferenceRepository {
+
+    private static final String COUNT_SQL =
+            "SELECT count(*) FROM article_file_urls WHERE file_url = :fileUrl";
+    private static final String FIND_REFERENCED_SQL =
+            "SELECT DISTINCT file_url FROM article_file_urls WHERE file_url IN (:fileUrls)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long countReferences(String fileUrl) {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Map.of("fileUrl", fileUrl), Long.class);
+        return count != null ? count : 0L;
+    }
+
+    // 주어진 URL 중 하나 이상의 게시글이 참조하는 것만
+    public Set<String> findReferenced(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(FIND_REFERENCED_SQL, Map.of("fileUrls", fileUrls), String.class));
+    }
+}
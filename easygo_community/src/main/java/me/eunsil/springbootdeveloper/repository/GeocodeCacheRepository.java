@@ -0,0 +1,14 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.GeocodeCacheEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface GeocodeCacheRepository extends MongoRepository<GeocodeCacheEntry, String> {
+
+    // 시작 시 메모리 캐시 워밍업용 (최근에 갱신된 유효한 좌표부터)
+    List<GeocodeCacheEntry> findByExpiresAtAfterAndLatNotNullOrderByUpdatedAtDesc(Instant now, Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, String> {
+
+    // 게시글이 참조하는데 축소본 기록이 없는 파일 (기록을 시작하기 전에 올라온 파일)
+    @Query(value = "SELECT DISTINCT f.file_url FROM article_file_urls f " +
+            "LEFT JOIN image_variants v ON v.file_url = f.file_url WHERE v.file_url IS NULL", nativeQuery = true)
+    List<String> findUnrecordedFileUrls();
+}
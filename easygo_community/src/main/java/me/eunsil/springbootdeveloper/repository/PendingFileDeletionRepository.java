@@ -0,0 +1,16 @@
+package me.eunsil.springbootdeveloper.repository;
+
+import me.eunsil.springbootdeveloper.domain.PendingFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    // 커밋 직후 처리가 누락된(서버 재시작 등) 오래된 요청부터
+    List<PendingFileDeletion> findByRequestedAtBeforeOrderByIdAsc(LocalDateTime requestedAt, Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package me.eunsil.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.dto.ArticleSearchResponse;
+import me.eunsil.springbootdeveloper.dto.ArticleSearchResult;
+import me.eunsil.springbootdeveloper.dto.ArticleSearchRow;
+import me.eunsil.springbootdeveloper.repository.ArticleSearchRepository;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import me.eunsil.springbootdeveloper.util.SearchHighlighter;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_TERMS = 5;
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final ArticleSearchRepository articleSearchRepository;
+    private final ViewCountBuffer viewCountBuffer;
+
+    public ArticleSearchResponse search(String query, String cursor, Integer size) {
+        String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("query must not be blank");
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            normalized = normalized.substring(0, MAX_QUERY_LENGTH);
+        }
+        // 공백으로 나눈 검색어는 모두 포함해야 함 (너무 많으면 앞에서부터 MAX_TERMS개만)
+        List<String> terms = Arrays.stream(normalized.split(" "))
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+        List<ArticleSearchRow> rows = articleSearchRepository.search(
+                normalized, terms, CursorUtil.decodeScored(cursor), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleSearchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        List<ArticleSearchResult> articles = page.stream()
+                .map(row -> new ArticleSearchResult(
+                        row.id(),
+                        row.title(),
+                        SearchHighlighter.highlight(row.title(), terms),
+                        SearchHighlighter.snippet(row.content(), terms, SNIPPET_RADIUS),
+                        row.nickname(),
+                        row.createdAt(),
+                        row.viewCount() + viewCountBuffer.pendingCount(row.id()),
+                        row.likeCount(),
+                        row.score()))
+                .toList();
+
+        ArticleSearchRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? CursorUtil.encode(last.score(), last.id()) : null;
+        return new ArticleSearchResponse(articles, nextCursor, hasNext);
+    }
+}
@@ -6,24 +6,26 @@ import me.eunsil.springbootdeveloper.domain.Article;
 import me.eunsil.springbootdeveloper.domain.ArticleLike;
 import me.eunsil.springbootdeveloper.domain.User;
 import me.eunsil.springbootdeveloper.dto.AddArticleRequest;
+import me.eunsil.springbootdeveloper.dto.ArticleFeedResponse;
+import me.eunsil.springbootdeveloper.dto.ArticleListViewResponse;
+import me.eunsil.springbootdeveloper.dto.FileUploadResult;
+import me.eunsil.springbootdeveloper.dto.ImageVariants;
 import me.eunsil.springbootdeveloper.dto.UpdateArticleRequest;
 import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
 import me.eunsil.springbootdeveloper.repository.ArticleLikeRepository;
-import org.springframework.beans.factory.annotation.Value;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,11 +34,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BlogService {
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
+
     private final BlogRepository blogRepository;
     private final ArticleLikeRepository articleLikeRepository;
-
-    @Value("${file.upload.directory}")  // application.properties에서 설정
-    private String uploadDirectory;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ArticleCounterRepository articleCounterRepository;
+    private final FileUploadService fileUploadService;
+    private final ImageVariantService imageVariantService;
+    private final FileReclamationQueue fileReclamationQueue;
 
     // 블로그 글 추가 메서드
     public Article save(Article article){
@@ -47,29 +54,73 @@ public class BlogService {
         return blogRepository.findAll();
     }
 
+    // 게시글 목록 커서 페이지 조회 (id 내림차순, size + 1개를 조회해서 다음 페이지 여부 판단)
+    public ArticleFeedResponse findFeed(String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        Long cursorId = CursorUtil.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ArticleListViewResponse> rows = cursorId == null
+                ? blogRepository.findFeed(limit)
+                : blogRepository.findFeedAfter(cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleListViewResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, String> thumbnails = findThumbnailUrls(page.stream().map(ArticleListViewResponse::getId).toList());
+        List<ArticleListViewResponse> articles = page.stream()
+                .map(row -> row.withViewCount(row.getViewCount() + viewCountBuffer.pendingCount(row.getId()))
+                        .withThumbnailUrl(thumbnails.get(row.getId())))
+                .toList();
+        String nextCursor = hasNext ? CursorUtil.encode(articles.get(articles.size() - 1).getId()) : null;
+
+        return new ArticleFeedResponse(articles, nextCursor, hasNext);
+    }
+
+    // 게시글별 첫 번째 첨부 이미지의 썸네일 URL (첨부 파일, 변형본 기록 각각 쿼리 한 번)
+    private Map<Long, String> findThumbnailUrls(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = blogRepository.findFirstFileUrlsByArticleIds(articleIds);
+        List<ImageVariants> variants = imageVariantService.variantsOf(rows.stream().map(row -> (String) row[1]).toList());
+        Map<Long, String> thumbnails = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            thumbnails.put((Long) rows.get(i)[0], variants.get(i).getThumbnail());
+        }
+        return thumbnails;
+    }
+
+    // 상세 화면용 첨부 이미지 URL 묶음 (fileUrls 순서 유지)
+    public List<ImageVariants> getImageVariants(Article article) {
+        if (article.getFileUrls() == null) {
+            return List.of();
+        }
+        return imageVariantService.variantsOf(article.getFileUrls());
+    }
+
     public Article findById(long id){
         return blogRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("not found: " + id));
 
     }
 
+    @Transactional
     public void delete(long id) {
         Article article = findById(id);
         authorizaeArticleAuthor(article);
-        
-        // 첨부 파일이 있다면 삭제
-        if (article.getFileUrls() != null) {
-            for (String fileUrl : article.getFileUrls()) {
-                deleteFile(fileUrl);
-            }
-        }
-        
+        List<String> fileUrls = article.getFileUrls() != null ? new ArrayList<>(article.getFileUrls()) : List.of();
+
         blogRepository.deleteById(id);
+
+        // 첨부 파일은 커밋된 뒤에 반납 (같은 파일을 다른 게시글이 쓰고 있으면 남김)
+        fileReclamationQueue.enqueue(fileUrls);
     }
 
+    // newFileUrls: 트랜잭션 밖에서 먼저 저장해 둔 새 첨부 파일 (saveFiles)
     @Transactional
-    public Article update(Long id, UpdateArticleRequest request, List<MultipartFile> files) {
+    public Article update(Long id, UpdateArticleRequest request, List<String> newFileUrls) {
         Article article = findById(id);
         authorizaeArticleAuthor(article);
+        List<String> previousFileUrls = article.getFileUrls() != null ? new ArrayList<>(article.getFileUrls()) : List.of();
         article.update(request.getTitle(), request.getContent(), request.getUpdatedAt());
 
         // 기존 파일 URL 유지
@@ -78,18 +129,19 @@ public class BlogService {
         }
 
         // 새로운 파일이 있다면 처리
-        if (files != null && !files.isEmpty()) {
-            try {
-                List<String> newFileUrls = saveFiles(files);  // 내부 메서드 사용
-                if (request.getFileUrls() != null) {
-                    newFileUrls.addAll(request.getFileUrls());
-                }
-                article.setFileUrls(newFileUrls);
-            } catch (IOException e) {
-                throw new RuntimeException("파일 저장 중 오류가 발생했습니다.", e);
+        if (newFileUrls != null && !newFileUrls.isEmpty()) {
+            List<String> fileUrls = new ArrayList<>(newFileUrls);
+            if (request.getFileUrls() != null) {
+                fileUrls.addAll(request.getFileUrls());
             }
+            article.setFileUrls(fileUrls);
         }
 
+        // 수정으로 빠진 첨부 파일은 커밋된 뒤에 반납
+        List<String> droppedFileUrls = new ArrayList<>(previousFileUrls);
+        droppedFileUrls.removeAll(article.getFileUrls());
+        fileReclamationQueue.enqueue(droppedFileUrls);
+
         return article;
     }
 
@@ -100,98 +152,66 @@ public class BlogService {
     }
 
     // 파일 저장 메서드
-    public List<String> saveFiles(List<MultipartFile> files) throws IOException {
-        List<String> fileUrls = new ArrayList<>();
-        
-        // 업로드 디렉토리가 없으면 생성
-        File directory = new File(uploadDirectory);
-        if (!directory.exists()) {
-            directory.mkdirs();
+    // 파일들은 FileUploadService가 동시에 저장하고, 하나라도 거부되면 이번 요청에서 저장한 파일을 지우고 전체를 거부
+    public List<String> saveFiles(List<MultipartFile> files) {
+        List<FileUploadResult> results = fileUploadService.store(files);
+
+        FileUploadResult rejected = results.stream().filter(result -> !result.isStored()).findFirst().orElse(null);
+        if (rejected != null) {
+            results.forEach(fileUploadService::release);
+            log.error("File validation failed: {} ({})", rejected.getOriginalFilename(), rejected.getError());
+            throw new IllegalArgumentException(rejected.getError());
         }
-        
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
-            
-            try {
-                // 파일 유효성 검사 추가
-                validateFile(file);
-                
-                String originalFilename = file.getOriginalFilename();
-                String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                String savedFilename = UUID.randomUUID().toString() + fileExtension;
-                
-                // 파일 저장
-                File targetFile = new File(directory, savedFilename);
-                file.transferTo(targetFile); // transferTo()는 MultipartFile의 내용을 서버 디스크에 실제로 저장하는 메서드
-                
-                // URL 생성
-                String fileUrl = "/uploads/" + savedFilename;
-                fileUrls.add(fileUrl);
-                
-                log.info("File saved at: {}", targetFile.getAbsolutePath());
-                log.info("File URL: {}", fileUrl);
-            } catch (IllegalArgumentException e) {
-                log.error("File validation failed: {}", e.getMessage());
-                throw e;
-            }
-        }
-        
+
+        List<String> fileUrls = new ArrayList<>();
+        results.forEach(result -> fileUrls.add(result.getUrl()));
+        // 썸네일/중간 크기 이미지는 요청과 별개로 백그라운드에서 생성
+        imageVariantService.generateAsync(fileUrls);
         return fileUrls;
     }
 
-    private void validateFile(MultipartFile file) {
-        // 파일 크기 검사
-        if (file.getSize() > 10 * 1024 * 1024) { // 10MB
-            throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
-        }
-        
-        // 파일 타입 검사
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
-        }
+    // 저장해 두었지만 게시글에 붙이지 못한 파일 반납 (다른 게시글이 참조하면 남김)
+    public void releaseFiles(List<String> fileUrls) {
+        fileReclamationQueue.enqueue(fileUrls);
     }
 
-    // 파일 삭제 
-    public void deleteFile(String fileUrl) {
-        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-        File file = new File(uploadDirectory + File.separator + fileName);
-        if (file.exists()) {
-            file.delete();
-        }
+    // 조회수는 버퍼에만 쌓고, DB 반영은 ViewCountBuffer가 주기적으로 배치 처리
+    public void incrementViewCount(Long articleId) {
+        viewCountBuffer.increment(articleId);
     }
 
-    @Transactional
-    public void incrementViewCount(Long articleId) {
-        Article article = blogRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
-        article.incrementViewCount();
-        blogRepository.save(article);
+    // DB에 저장된 조회수 + 아직 반영되지 않은 조회수
+    public long getViewCount(Article article) {
+        return article.getViewCount() + viewCountBuffer.pendingCount(article.getId());
     }
 
+    // 좋아요 토글. 조회 후 분기하지 않고 삭제 -> (없었으면) 삽입 순서로 처리해서
+    // 동시에 여러 번 눌러도 좋아요 행 수와 like_count가 어긋나지 않게 함
     @Transactional
-    public boolean toggleLike(Long articleId, User user) {
-        Article article = findById(articleId);
-
-        // 이미 좋아요를 눌렀는지 확인
-        boolean hasLiked = articleLikeRepository.existsByArticleIdAndUserId(article.getId(), user.getId());
-
-
-        if (hasLiked) {
+    public boolean toggleLike(Long articleId, Long userId) {
+        if (articleLikeRepository.deleteLike(articleId, userId) > 0) {
             // 좋아요 취소
-            articleLikeRepository.deleteByArticleAndUser(article, user);
-            article.decrementLikeCount();
+            articleCounterRepository.addLikeCount(articleId, -1);
             return false;
-        } else {
-            // 좋아요 추가
-            ArticleLike articleLike = ArticleLike.builder()
-                .article(article)
-                .user(user)
-                .build();
-            articleLikeRepository.save(articleLike);
-            article.incrementLikeCount();
-            return true;
         }
+
+        int inserted;
+        try {
+            inserted = articleLikeRepository.insertLike(articleId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // 게시글/사용자 FK 중 어느 쪽이 없는지는 예외만으로 구분할 수 없고,
+            // PostgreSQL에서는 실패한 트랜잭션에서 다시 조회할 수도 없으므로 둘 다 표시
+            throw new IllegalArgumentException("not found: article " + articleId + " or user " + userId);
+        }
+        // 같은 사용자의 동시 요청이 먼저 삽입했다면 이미 좋아요 상태이므로 카운트는 그대로
+        if (inserted > 0) {
+            articleCounterRepository.addLikeCount(articleId, 1);
+        }
+        return true;
+    }
+
+    public long getLikeCount(Long articleId) {
+        return articleCounterRepository.findLikeCount(articleId);
     }
 
     public boolean hasUserLikedArticle(Long articleId, Long userId) {
@@ -7,12 +7,20 @@ import me.eunsil.springbootdeveloper.domain.Article;
 import me.eunsil.springbootdeveloper.domain.Comment;
 import me.eunsil.springbootdeveloper.domain.User;
 import me.eunsil.springbootdeveloper.dto.CommentResponse;
+import me.eunsil.springbootdeveloper.dto.CommentRow;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import me.eunsil.springbootdeveloper.repository.BlogRepository;
 import me.eunsil.springbootdeveloper.repository.CommentRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -22,6 +30,7 @@ import java.util.Optional;
 public class CommentService {
     private final BlogRepository blogRepository;
     private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
 
     public Comment save(Comment comment){
         return commentRepository.save(comment);
@@ -34,12 +43,79 @@ public class CommentService {
     // 댓글 목록 조회 (계층 구조로)
     @Transactional(readOnly = true)
     public List<CommentResponse> findAllByArticleId(Long articleId, Long currentUserId) {
-        return commentRepository.findAllByArticleIdOrderByCreatedAt(articleId).stream().map(comment -> new CommentResponse(comment, currentUserId)).toList();
+        return findCommentTree(articleId, currentUserId, null, null, null);
+    }
+
+    // 댓글 트리 조회
+    // maxDepth: 이 깊이까지만 포함 (null이면 전체)
+    // limit, afterId: 원댓글을 (createdAt, id) 순으로 afterId 원댓글 다음부터 limit개 스레드만 반환 (null이면 전체)
+    // 페이지를 지정하면 원댓글 페이지를 DB에서 키셋으로 자르고, 그 스레드의 대댓글만 재귀 CTE로 조회
+    @Transactional(readOnly = true)
+    public List<CommentResponse> findCommentTree(Long articleId, Long currentUserId, Integer maxDepth, Integer limit, Long afterId) {
+        int depthLimit = maxDepth != null ? maxDepth : Integer.MAX_VALUE;
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+        }
+        if (limit == null && afterId == null) {
+            // 전체 트리는 한 번의 쿼리로 평면 조회
+            return assemble(commentRepository.findRowsByArticleId(articleId, depthLimit), currentUserId);
+        }
+
+        Pageable page = limit != null ? PageRequest.of(0, limit) : Pageable.unpaged();
+        List<Long> rootIds;
+        if (afterId == null) {
+            rootIds = commentRepository.findRootIds(articleId, page);
+        } else {
+            Comment after = commentRepository.findById(afterId)
+                    .filter(comment -> comment.getParent() == null && comment.getArticle().getId().equals(articleId))
+                    .orElseThrow(() -> new IllegalArgumentException("원댓글이 존재하지 않습니다: " + afterId));
+            rootIds = commentRepository.findRootIdsAfter(articleId, after.getCreatedAt(), afterId, page);
+        }
+        return assemble(commentRepository.findThreadRows(rootIds, depthLimit), currentUserId);
+    }
+
+    // createdAt 순으로 정렬된 평면 목록을 id -> 노드 맵으로 O(n) 조립
+    private static List<CommentResponse> assemble(List<CommentRow> rows, Long currentUserId) {
+        Map<Long, CommentResponse> nodes = new HashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            nodes.put(row.getId(), toNode(row, currentUserId));
+        }
+
+        // 조회 순서(createdAt)를 유지하면서 부모 노드의 children에 연결
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentResponse node = nodes.get(row.getId());
+            if (row.getParentId() == null) {
+                roots.add(node);
+            } else {
+                CommentResponse parent = nodes.get(row.getParentId());
+                if (parent != null) {
+                    parent.getChildren().add(node);
+                }
+            }
+        }
+        return roots;
+    }
+
+    private static CommentResponse toNode(CommentRow row, Long currentUserId) {
+        return CommentResponse.builder()
+                .id(row.getId())
+                .articleId(row.getArticleId())
+                .content(row.getContent())
+                .nickname(row.getNickname())
+                .userid(row.getUserId() != null ? row.getUserId() : 0L)
+                .createdAt(row.getCreatedAt())
+                .minecheck(row.getUserId() != null && row.getUserId().equals(currentUserId))
+                .parentId(row.getParentId())
+                .depth(row.getDepth())
+                .children(new ArrayList<>())
+                .build();
     }
 
     // 댓글 작성 (원댓글/대댓글 모두 처리)
+    // 작성자는 캐시된 UserSnapshot으로 받아서 users 테이블 조회 없이 프록시로 연결
     @Transactional
-    public CommentResponse createComment(String content, Article article, User user, Long parentId) {
+    public CommentResponse createComment(String content, Article article, UserSnapshot author, Long parentId) {
         Comment parent = null;
 
         if (parentId != null) {
@@ -49,7 +125,7 @@ public class CommentService {
 
         Comment comment = Comment.builder()
                 .content(content)
-                .user(user)
+                .user(userRepository.getReferenceById(author.getId()))
                 .article(article)
                 .parent(parent)
                 .build();
@@ -60,7 +136,8 @@ public class CommentService {
         }
 
         Comment savedComment = commentRepository.save(comment);
-        return new CommentResponse(savedComment, user.getId());
+        return toNode(new CommentRow(savedComment.getId(), article.getId(), savedComment.getContent(),
+                author.getId(), author.getNickname(), savedComment.getCreatedAt(), parentId, savedComment.getDepth()), author.getId());
     }
 
     @Transactional
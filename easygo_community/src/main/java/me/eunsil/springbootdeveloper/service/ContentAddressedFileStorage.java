@@ -0,0 +1,262 @@
+package me.eunsil.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// 내용(SHA-256) 기준 저장소: 같은 이미지는 한 번만 저장
+// 위치는 해시 앞 4글자로 두 단계 나눔 (예: /uploads/ab/cd/abcd1234....jpg) -> 디렉토리 하나에 파일이 몰리지 않음
+// 참조 수는 article_file_urls에서 세고, 참조가 없고 grace 기간이 지난 파일만 삭제
+// (업로드 직후 아직 게시글에 연결되기 전인 파일을 지우지 않기 위함)
+// 파일을 지울 때 변형본 기록(image_variants)도 함께 지움 (같은 내용이 다시 올라왔을 때 없는 변형본을 가리키지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAddressedFileStorage implements FileStorage {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final int GC_BATCH_SIZE = 500;
+    private static final int LOCK_STRIPES = 64;
+    // 파생 파일 접미사 (ImageVariantService.Variant). 예전 업로드 중에는 "<UUID>_<원래 이름>" 원본도 있어서 '_'만으로 구분하지 않음
+    private static final List<String> DERIVED_SUFFIXES = List.of("thumb", "medium");
+
+    private final FileReferenceRepository fileReferenceRepository;
+    private final ImageVariantRepository imageVariantRepository;
+
+    @Value("${file.upload.directory}")
+    private String uploadDirectory;
+
+    // 참조가 없어도 이 기간 안에 저장/재사용된 파일은 지우지 않음
+    @Value("${file.storage.gc-grace:1h}")
+    private Duration gcGrace;
+
+    // 같은 파일 이름에 대한 저장(중복 재사용)과 삭제가 겹치지 않도록 이름별 잠금
+    // 잠근 채로 파일/DB I/O를 하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드를 붙잡지 않도록)
+    private final ReentrantLock[] locks = createLocks();
+
+    @Override
+    public Path createTempFile() throws IOException {
+        Path root = root();
+        Files.createDirectories(root);
+        return Files.createFile(root.resolve(UUID.randomUUID() + TEMP_SUFFIX));
+    }
+
+    @Override
+    public String store(Path tempFile, String sha256, String extension) throws IOException {
+        String fileName = sha256 + extension;
+        Path directory = root().resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4));
+        Path target = directory.resolve(fileName);
+        Files.createDirectories(directory);
+
+        ReentrantLock lock = lockFor(fileName);
+        lock.lock();
+        try {
+            if (Files.exists(target)) {
+                // 이미 있는 내용: 새로 쓰지 않고 재사용. 수정 시각을 갱신해서 grace 기간 동안 삭제되지 않게 함
+                Files.deleteIfExists(tempFile);
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return URL_PREFIX + root().relativize(target).toString().replace('\\', '/');
+    }
+
+    @Override
+    public Path resolve(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(URL_PREFIX)) {
+            throw new IllegalArgumentException("invalid file url: " + fileUrl);
+        }
+        Path root = root().toAbsolutePath().normalize();
+        Path path = root.resolve(fileUrl.substring(URL_PREFIX.length())).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("invalid file url: " + fileUrl);
+        }
+        return path;
+    }
+
+    @Override
+    public boolean release(String fileUrl) {
+        Path path;
+        try {
+            path = resolve(fileUrl);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring release of file outside storage: {}", fileUrl);
+            return false;
+        }
+        String fileName = path.getFileName().toString();
+        ReentrantLock lock = lockFor(fileName);
+        lock.lock();
+        try {
+            try {
+                if (!Files.exists(path) || isWithinGrace(path) || fileReferenceRepository.countReferences(fileUrl) > 0) {
+                    return false;
+                }
+                // 기록을 먼저 지움: 파일 삭제가 실패해도 기록이 없으면 원본 URL을 쓰므로 안전
+                imageVariantRepository.deleteAllByIdInBatch(List.of(fileUrl));
+                deleteWithDerived(path);
+                return true;
+            } catch (IOException e) {
+                log.warn("Failed to release file {}", fileUrl, e);
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.storage.gc-interval-ms:3600000}", initialDelayString = "${file.storage.gc-initial-delay-ms:600000}")
+    public void scheduledGarbageCollection() {
+        int deleted = collectGarbage();
+        if (deleted > 0) {
+            log.info("File storage GC removed {} orphaned files", deleted);
+        }
+    }
+
+    @Override
+    public int collectGarbage() {
+        Path root = root();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        int deleted = 0;
+        Map<String, Path> batch = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(TEMP_SUFFIX)) {
+                    // 중간에 실패한 업로드가 남긴 임시 파일
+                    if (!isWithinGrace(path)) {
+                        Files.deleteIfExists(path);
+                    }
+                } else if (isDerived(fileName)) {
+                    // 원본이 없어진 파생 파일 (원본이 이번에 지워지면 deleteWithDerived가 함께 지움)
+                    if (originalOf(path) == null) {
+                        Files.deleteIfExists(path);
+                    }
+                } else {
+                    batch.put(URL_PREFIX + root.relativize(path).toString().replace('\\', '/'), path);
+                    if (batch.size() >= GC_BATCH_SIZE) {
+                        deleted += releaseUnreferenced(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            deleted += releaseUnreferenced(batch);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("File storage GC failed", e);
+        }
+        return deleted;
+    }
+
+    private int releaseUnreferenced(Map<String, Path> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = fileReferenceRepository.findReferenced(batch.keySet());
+        int deleted = 0;
+        for (Map.Entry<String, Path> entry : batch.entrySet()) {
+            // release()가 잠금 안에서 참조 수와 수정 시각을 다시 확인
+            if (!referenced.contains(entry.getKey()) && !isWithinGrace(entry.getValue()) && release(entry.getKey())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void deleteWithDerived(Path path) throws IOException {
+        String pattern = baseName(path.getFileName().toString()) + "_{" + String.join(",", DERIVED_SUFFIXES) + "}.*";
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(path.getParent(), pattern)) {
+            for (Path sibling : siblings) {
+                Files.deleteIfExists(sibling);
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+
+    // 파생 파일의 원본 (같은 디렉토리에서 "_" 앞부분과 이름이 같은 파일). 없으면 null
+    private static Path originalOf(Path derivedPath) {
+        String base = baseName(derivedPath.getFileName().toString());
+        base = base.substring(0, base.lastIndexOf('_'));
+        try (DirectoryStream<Path> candidates = Files.newDirectoryStream(derivedPath.getParent(), base + ".*")) {
+            for (Path candidate : candidates) {
+                if (!isDerived(candidate.getFileName().toString())) {
+                    return candidate;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to look up original of {}", derivedPath, e);
+            return derivedPath;  // 확인할 수 없으면 지우지 않음
+        }
+        return null;
+    }
+
+    private static boolean isDerived(String fileName) {
+        String base = baseName(fileName);
+        int underscore = base.lastIndexOf('_');
+        return underscore > 0 && DERIVED_SUFFIXES.contains(base.substring(underscore + 1));
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private boolean isWithinGrace(Path path) {
+        try {
+            Instant modified = Files.getLastModifiedTime(path).toInstant();
+            return modified.isAfter(Instant.now().minus(gcGrace));
+        } catch (IOException e) {
+            return true;  // 확인할 수 없으면 지우지 않음
+        }
+    }
+
+    private ReentrantLock lockFor(String fileName) {
+        return locks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private Path root() {
+        return Paths.get(uploadDirectory);
+    }
+}
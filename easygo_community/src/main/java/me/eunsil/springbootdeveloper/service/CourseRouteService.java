@@ -0,0 +1,253 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import me.eunsil.springbootdeveloper.repository.CourseRouteRepository;
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 코스 경로 요약(course_routes) 계산/저장
+// 코스의 스팟이 바뀌는 쓰기 뒤에 백그라운드에서 다시 계산하고, 경로 조회는 저장된 요약 하나만 읽음
+// 다시 계산하기 전에 조회되면 요약의 코스 버전이 달라서 조회 쪽(RouteService)이 직접 계산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseRouteService {
+
+    static final int DEFAULT_MATRIX_MAX_SPOTS = 200;
+
+    private final CourseRouteRepository courseRouteRepository;
+
+    // 쓰기 뒤 이만큼 기다렸다가 계산 (그 사이 같은 코스에 쓰기가 더 오면 마지막 버전으로 한 번만)
+    @Value("${course.route.refresh-delay:200ms}")
+    private Duration refreshDelay;
+
+    // 하루 스팟이 이보다 많으면 거리 행렬을 저장하지 않음 (스팟 수의 제곱이라 문서 크기 16MB 제한을 넘을 수 있음)
+    @Value("${course.route.matrix-max-spots:200}")
+    private int matrixMaxSpots = DEFAULT_MATRIX_MAX_SPOTS;
+
+    // 계산을 기다리는 코스 (코스 id -> 가장 새 버전)
+    private final Map<String, Course> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService refreshExecutor;
+
+    @PostConstruct
+    void init() {
+        refreshExecutor = Executors.newScheduledThreadPool(1,
+                Thread.ofPlatform().name("course-route-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    public CourseRoute find(String courseId) {
+        return courseRouteRepository.findById(courseId).orElse(null);
+    }
+
+    // 스팟이 바뀌는 쓰기 뒤에 호출. 거리 행렬(스팟 수의 제곱) 계산을 요청 스레드에서 하지 않음
+    public void refreshAsync(Course course) {
+        boolean[] scheduled = {false};
+        pending.compute(course.getId(), (courseId, queued) -> {
+            if (queued == null) {
+                scheduled[0] = true;
+                return course;
+            }
+            return version(course) >= version(queued) ? course : queued;
+        });
+        if (scheduled[0]) {
+            refreshExecutor.schedule(() -> {
+                Course latest = pending.remove(course.getId());
+                if (latest != null) {
+                    refresh(latest);
+                }
+            }, refreshDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public CourseRoute refresh(Course course) {
+        return refresh(course, Set.of(), null);
+    }
+
+    // unresolvedAddresses: 지오코딩으로 찾을 수 없었던 주소 (좌표 없이 확인된 것으로 기록)
+    // current(지금 저장된 요약)와 버전, 스팟 내용이 같으면 DB에서 교체하지 않음 (이름/태그만 바뀐 경우 등)
+    // 저장에 실패해도 코스 쓰기는 그대로 두고, 오래된 요약이 남지 않도록 지워서 다음 조회 때 다시 계산되게 함
+    public CourseRoute refresh(Course course, Set<String> unresolvedAddresses, CourseRoute current) {
+        CourseRoute route = build(course, unresolvedAddresses, matrixMaxSpots);
+        if (current != null && current.getCourseVersion() == route.getCourseVersion()
+                && route.getSpotsHash().equals(current.getSpotsHash())) {
+            return current;
+        }
+        try {
+            courseRouteRepository.saveIfNewer(route);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store route summary for course {}", course.getId(), e);
+            evict(course.getId());
+        }
+        return route;
+    }
+
+    public void evict(String courseId) {
+        pending.remove(courseId);
+        try {
+            courseRouteRepository.deleteById(courseId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict route summary for course {}", courseId, e);
+        }
+    }
+
+    static CourseRoute build(Course course) {
+        return build(course, Set.of(), DEFAULT_MATRIX_MAX_SPOTS);
+    }
+
+    static CourseRoute build(Course course, Set<String> unresolvedAddresses, int matrixMaxSpots) {
+        List<Course.Day> days = course.getDays() != null ? course.getDays() : List.of();
+        List<CourseRoute.DayRoute> dayRoutes = new ArrayList<>();
+        boolean complete = true;
+        Set<String> unresolved = new LinkedHashSet<>();
+        double total = 0;
+        CourseRoute.BoundingBox bounds = null;
+
+        for (Course.Day day : days) {
+            List<Course.Spot> spots = day.getSpots() != null ? day.getSpots() : List.of();
+            List<CourseRoute.RoutePoint> points = new ArrayList<>();
+            for (int spotIndex = 0; spotIndex < spots.size(); spotIndex++) {
+                Course.Spot spot = spots.get(spotIndex);
+                // 주소가 없는 스팟은 경로에서 제외 (RouteService와 같은 기준)
+                if (spot.getAddress() == null || spot.getAddress().isEmpty()) {
+                    continue;
+                }
+                if (spot.getCoordinates() != null) {
+                    points.add(new CourseRoute.RoutePoint(spotIndex, spot.getName(), spot.getTime(),
+                            spot.getCoordinates().getLat(), spot.getCoordinates().getLng()));
+                } else if (unresolvedAddresses.contains(spot.getAddress())) {
+                    unresolved.add(spot.getAddress());
+                } else {
+                    complete = false;
+                }
+            }
+
+            CourseRoute.DayRoute dayRoute = buildDay(day.getDate(), points, matrixMaxSpots);
+            dayRoutes.add(dayRoute);
+            total += dayRoute.getDistanceKm();
+            bounds = union(bounds, dayRoute.getBounds());
+        }
+
+        CourseRoute route = new CourseRoute();
+        route.setCourseId(course.getId());
+        route.setSpotsHash(spotsHash(days, unresolved));
+        route.setCourseVersion(version(course));
+        route.setComplete(complete);
+        route.setUnresolvedAddresses(new ArrayList<>(unresolved));
+        route.setDistanceKm(total);
+        route.setBounds(bounds);
+        route.setDays(dayRoutes);
+        route.setComputedAt(LocalDateTime.now());
+        return route;
+    }
+
+    // 스팟이 matrixMaxSpots보다 많은 날은 행렬 없이 저장하고 distanceBetween이 그때그때 계산
+    private static CourseRoute.DayRoute buildDay(String date, List<CourseRoute.RoutePoint> points, int matrixMaxSpots) {
+        int n = points.size();
+        double[] matrix = n <= matrixMaxSpots ? new double[n * (n - 1) / 2] : null;
+        double[] legs = new double[Math.max(0, n - 1)];
+        double distance = 0;
+        CourseRoute.BoundingBox bounds = null;
+        int cell = 0;
+        for (int i = 0; i < n; i++) {
+            CourseRoute.RoutePoint from = points.get(i);
+            if (matrix != null) {
+                for (int j = i + 1; j < n; j++) {
+                    CourseRoute.RoutePoint to = points.get(j);
+                    matrix[cell++] = GeoUtil.distanceKm(from.getLat(), from.getLng(), to.getLat(), to.getLng());
+                }
+            }
+            if (i < n - 1) {
+                // 상삼각에서 (i, i + 1)은 i행의 첫 칸
+                CourseRoute.RoutePoint next = points.get(i + 1);
+                legs[i] = matrix != null ? matrix[i * (2 * n - i - 1) / 2]
+                        : GeoUtil.distanceKm(from.getLat(), from.getLng(), next.getLat(), next.getLng());
+                distance += legs[i];
+            }
+            bounds = union(bounds, new CourseRoute.BoundingBox(from.getLat(), from.getLng(), from.getLat(), from.getLng()));
+        }
+
+        CourseRoute.DayRoute dayRoute = new CourseRoute.DayRoute();
+        dayRoute.setDate(date);
+        dayRoute.setPoints(points);
+        dayRoute.setLegDistancesKm(legs);
+        dayRoute.setDistanceKm(distance);
+        dayRoute.setDistanceMatrixKm(matrix);
+        dayRoute.setBounds(bounds);
+        return dayRoute;
+    }
+
+    private static CourseRoute.BoundingBox union(CourseRoute.BoundingBox a, CourseRoute.BoundingBox b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return new CourseRoute.BoundingBox(
+                Math.min(a.getMinLat(), b.getMinLat()), Math.min(a.getMinLng(), b.getMinLng()),
+                Math.max(a.getMaxLat(), b.getMaxLat()), Math.max(a.getMaxLng(), b.getMaxLng()));
+    }
+
+    private static long version(Course course) {
+        return course.getVersion() != null ? course.getVersion() : -1;
+    }
+
+    static String spotsHash(List<Course.Day> days) {
+        return spotsHash(days, Set.of());
+    }
+
+    // 경로에 영향을 주는 값만 순서대로 (spotId, 설명, 카테고리 등은 제외)
+    // 찾을 수 없다고 확인된 주소도 포함해서, 확인 전/후 요약을 서로 다른 것으로 봄
+    static String spotsHash(List<Course.Day> days, Set<String> unresolvedAddresses) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Course.Day day : days) {
+                update(digest, "day", day.getDate());
+                List<Course.Spot> spots = day.getSpots() != null ? day.getSpots() : List.of();
+                for (Course.Spot spot : spots) {
+                    Course.Coordinates coordinates = spot.getCoordinates();
+                    update(digest, "spot", spot.getName(), spot.getAddress(), spot.getTime(),
+                            coordinates != null ? coordinates.getLat() + "," + coordinates.getLng()
+                                    : unresolvedAddresses.contains(spot.getAddress()) ? "unresolved" : null);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 값 사이 구분자를 넣어서 ("ab", "c")와 ("a", "bc")가 같은 해시가 되지 않도록
+    private static void update(MessageDigest digest, String... values) {
+        for (String value : values) {
+            digest.update(value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[]{0});
+            digest.update((byte) 0x1f);
+        }
+        digest.update((byte) 0x1e);
+    }
+}
@@ -3,9 +3,19 @@ package me.eunsil.springbootdeveloper.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.CoursePatchRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSpotRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSummary;
+import me.eunsil.springbootdeveloper.dto.CourseSummaryResponse;
 import me.eunsil.springbootdeveloper.repository.CourseRepository;
 import me.eunsil.springbootdeveloper.exception.ResourceNotFoundException;
 import me.eunsil.springbootdeveloper.exception.UnauthorizedException;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,18 +25,55 @@ import java.util.List;
 @Transactional
 @RequiredArgsConstructor
 public class CourseService {
+     private static final int DEFAULT_PAGE_SIZE = 20;
+     private static final int MAX_PAGE_SIZE = 100;
+
      private final CourseRepository courseRepository;
+     private final CourseRouteService courseRouteService;
 
+     // 항상 새 코스로 저장 (기존 코스 수정은 PUT/PATCH로)
      public Course saveCourse(Course course, String userId) {
+        course.setId(null);
+        course.setVersion(null);
         course.setUserId(userId);
         course.setCreatedAt(LocalDateTime.now());
-        return courseRepository.save(course);
+        assignSpotIds(course.getDays());
+        Course saved = courseRepository.save(course);
+        courseRouteService.refreshAsync(saved);
+        return saved;
      }
 
      public List<Course> getUserCourses(String userId) {
         return courseRepository.findByUserId(userId);
      }
 
+     // 내 코스 목록 커서 페이지 (최신순, size + 1개를 조회해서 다음 페이지 여부 판단)
+     public CourseSummaryResponse getUserCourseSummaries(String userId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<CourseSummary> rows = courseRepository.findSummaries(userId, CursorUtil.decodeTimed(cursor), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CourseSummary> courses = hasNext ? rows.subList(0, pageSize) : rows;
+        CourseSummary last = courses.isEmpty() ? null : courses.get(courses.size() - 1);
+        String nextCursor = hasNext ? CursorUtil.encode(last.getCreatedAt(), last.getId()) : null;
+        return new CourseSummaryResponse(courses, nextCursor, hasNext);
+     }
+
+     // 일정 전체(days/spots)는 코스 하나를 열 때만 조회
+     public Course getUserCourse(String courseId, String userId) {
+        Course course = courseRepository.findById(courseId).orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        if (!course.getUserId().equals(userId)) {
+            throw new UnauthorizedException("Not authorized to view this course");
+        }
+        // 스팟 id가 없던 예전 코스는 처음 열 때 id를 채워서 저장 (그 사이 수정됐으면 다시 조회)
+        if (assignSpotIds(course.getDays())) {
+            Course updated = courseRepository.updateIfOwned(courseId, userId, null,
+                    Criteria.where("version").is(course.getVersion()), new Update().set("days", course.getDays()));
+            return updated != null ? updated : courseRepository.findById(courseId).orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        }
+        return course;
+     }
+
      public void deleteCourse(String courseId, String userId) {
         Course course = courseRepository.findById(courseId).orElseThrow(() -> new ResourceNotFoundException("Course not found"));
 
@@ -35,6 +82,7 @@ public class CourseService {
         }
 
         courseRepository.delete(course);
+        courseRouteService.evict(courseId);
      }
 
      public Course getCourseById(String id) {
@@ -42,21 +90,117 @@ public class CourseService {
             .orElseThrow(() -> new RuntimeException("코스를 찾을 수 없습니다: " + id));
      }
 
+     // 코스 전체 교체. 읽지 않고 소유자/버전 조건부 $set 한 번으로 처리
      public Course updateCourse(String courseId, Course course, String userId) {
-        Course existingCourse = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        
-        // 권한 체크
-        if (!existingCourse.getUserId().equals(userId)) {
+        assignSpotIds(course.getDays());
+        Update update = new Update()
+            .set("name", course.getName())
+            .set("days", course.getDays())
+            .set("tags", course.getTags())
+            .set("updatedAt", LocalDateTime.now());
+        return refreshRoute(updateOrThrow(courseId, userId, course.getVersion(), null, update, "Course not found"));
+     }
+
+     // 이름/태그만 부분 수정
+     public Course patchCourse(String courseId, String userId, CoursePatchRequest request) {
+        if (request.getName() == null && request.getTags() == null) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        if (request.getName() != null && request.getName().isBlank()) {
+            throw new IllegalArgumentException("Course name must not be blank");
+        }
+        Update update = new Update().set("updatedAt", LocalDateTime.now());
+        if (request.getName() != null) {
+            update.set("name", request.getName());
+        }
+        if (request.getTags() != null) {
+            update.set("tags", request.getTags());
+        }
+        return updateOrThrow(courseId, userId, request.getVersion(), null, update, "Course not found");
+     }
+
+     // dayIndex번째 날의 position 위치에 스팟 추가 ($push + $position)
+     public Course addSpot(String courseId, String userId, int dayIndex, CourseSpotRequest request) {
+        Course.Spot spot = requireSpot(request);
+        if (dayIndex < 0 || (request.getPosition() != null && request.getPosition() < 0)) {
+            throw new IllegalArgumentException("Invalid day or position");
+        }
+        spot.setSpotId(new ObjectId().toHexString());
+
+        String path = "days." + dayIndex + ".spots";
+        Update.PushOperatorBuilder push = new Update().set("updatedAt", LocalDateTime.now()).push(path);
+        if (request.getPosition() != null) {
+            push.atPosition(request.getPosition());
+        }
+        Update update = push.each(spot);
+        return refreshRoute(updateOrThrow(courseId, userId, request.getVersion(), Criteria.where("days." + dayIndex).exists(true), update, "Day not found"));
+     }
+
+     // 스팟 하나만 교체 (days.$[].spots.$[s], 다른 스팟과 다른 날은 건드리지 않음)
+     public Course updateSpot(String courseId, String userId, String spotId, CourseSpotRequest request) {
+        Course.Spot spot = requireSpot(request);
+        spot.setSpotId(spotId);
+
+        Update update = new Update()
+            .set("days.$[].spots.$[s]", spot)
+            .set("updatedAt", LocalDateTime.now())
+            .filterArray(Criteria.where("s.spotId").is(spotId));
+        return refreshRoute(updateOrThrow(courseId, userId, request.getVersion(), Criteria.where("days.spots.spotId").is(spotId), update, "Spot not found"));
+     }
+
+     public Course removeSpot(String courseId, String userId, String spotId, Long version) {
+        Update update = new Update()
+            .pull("days.$[].spots", new Document("spotId", spotId))
+            .set("updatedAt", LocalDateTime.now());
+        return refreshRoute(updateOrThrow(courseId, userId, version, Criteria.where("days.spots.spotId").is(spotId), update, "Spot not found"));
+     }
+
+     // 조건부 수정. 적용되지 않았을 때만 한 번 더 읽어서 원인(없음/권한/버전 충돌)을 구분
+     private Course updateOrThrow(String courseId, String userId, Long version, Criteria condition, Update update, String missingMessage) {
+        Course updated = courseRepository.updateIfOwned(courseId, userId, version, condition, update);
+        if (updated != null) {
+            return updated;
+        }
+        Course course = courseRepository.findById(courseId).orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        if (!course.getUserId().equals(userId)) {
             throw new UnauthorizedException("Not authorized to update this course");
         }
+        if (version != null && !version.equals(course.getVersion())) {
+            throw new OptimisticLockingFailureException("Course was modified by another request");
+        }
+        throw new ResourceNotFoundException(missingMessage);
+     }
 
-        // 기존 코스 정보 업데이트
-        existingCourse.setName(course.getName());
-        existingCourse.setDays(course.getDays());
-        existingCourse.setTags(course.getTags());
-        existingCourse.setUpdatedAt(LocalDateTime.now());
+     // 스팟이 바뀌는 쓰기 뒤에 경로 요약 갱신 (이름/태그만 바꾸는 patchCourse는 제외)
+     private Course refreshRoute(Course updated) {
+        courseRouteService.refreshAsync(updated);
+        return updated;
+     }
 
-        return courseRepository.save(existingCourse);
+     private static Course.Spot requireSpot(CourseSpotRequest request) {
+        if (request.getSpot() == null) {
+            throw new IllegalArgumentException("Spot is required");
+        }
+        return request.getSpot();
+     }
+
+     // spotId가 없는 스팟에 새 id 부여. 하나라도 부여했으면 true
+     private static boolean assignSpotIds(List<Course.Day> days) {
+        boolean assigned = false;
+        if (days == null) {
+            return false;
+        }
+        for (Course.Day day : days) {
+            if (day.getSpots() == null) {
+                continue;
+            }
+            for (Course.Spot spot : day.getSpots()) {
+                if (spot.getSpotId() == null) {
+                    spot.setSpotId(new ObjectId().toHexString());
+                    assigned = true;
+                }
+            }
+        }
+        return assigned;
      }
 }
@@ -0,0 +1,112 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.domain.PendingFileDeletion;
+import me.eunsil.springbootdeveloper.repository.PendingFileDeletionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// 게시글에서 빠진 첨부 파일의 지연 삭제 큐
+// 삭제 요청은 게시글 변경과 같은 트랜잭션에 pending_file_deletions 행으로 기록 -> 롤백되면 요청도 없어지므로 파일이 먼저 지워지는 일이 없음
+// 커밋 후 백그라운드 스레드가 FileStorage.release로 반납 (다른 게시글이 참조 중이거나 업로드 직후인 파일은 남김)
+// 처리 전에 서버가 내려가 남은 요청은 주기 작업이 다시 처리하고, 그래도 남는 파일은 저장소 GC가 article_file_urls와 대조해서 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileReclamationQueue {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final FileStorage fileStorage;
+
+    // 기록된 지 이 시간이 지나도 남아 있는 요청은 커밋 후 처리가 누락된 것으로 보고 다시 처리
+    @Value("${file.reclaim.retry-after:5m}")
+    private Duration retryAfter;
+
+    private ExecutorService reclaimExecutor;
+
+    @PostConstruct
+    void init() {
+        reclaimExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("file-reclaim-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reclaimExecutor.shutdown();
+    }
+
+    // 현재 트랜잭션에 삭제 요청 기록. 커밋되면 백그라운드에서 처리 (트랜잭션 밖에서 부르면 바로 처리)
+    public void enqueue(Collection<String> fileUrls) {
+        if (fileUrls == null || fileUrls.isEmpty()) {
+            return;
+        }
+        List<Long> ids = pendingFileDeletionRepository.saveAll(fileUrls.stream().distinct().map(PendingFileDeletion::new).toList())
+                .stream()
+                .map(PendingFileDeletion::getId)
+                .toList();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(ids);
+                }
+            });
+        } else {
+            submit(ids);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.reclaim.retry-interval-ms:60000}")
+    public void retryPending() {
+        List<PendingFileDeletion> batch;
+        do {
+            batch = pendingFileDeletionRepository.findByRequestedAtBeforeOrderByIdAsc(
+                    LocalDateTime.now().minus(retryAfter), PageRequest.of(0, BATCH_SIZE));
+            process(batch);
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    private void submit(List<Long> ids) {
+        try {
+            reclaimExecutor.execute(() -> {
+                try {
+                    process(pendingFileDeletionRepository.findAllById(ids));
+                } catch (RuntimeException e) {
+                    log.warn("File reclamation failed, will retry: {}", ids, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.info("File reclamation deferred during shutdown: {}", ids);  // 다음 기동 후 retryPending이 처리
+        }
+    }
+
+    private void process(List<PendingFileDeletion> deletions) {
+        if (deletions.isEmpty()) {
+            return;
+        }
+        for (PendingFileDeletion deletion : deletions) {
+            if (fileStorage.release(deletion.getFileUrl())) {
+                log.info("Reclaimed file {}", deletion.getFileUrl());
+            }
+        }
+        pendingFileDeletionRepository.deleteAllByIdInBatch(deletions.stream().map(PendingFileDeletion::getId).toList());
+    }
+}
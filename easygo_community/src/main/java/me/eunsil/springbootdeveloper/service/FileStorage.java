@@ -0,0 +1,25 @@
+package me.eunsil.springbootdeveloper.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 업로드 파일 저장소
+// 파생 파일(썸네일 등)은 원본과 같은 위치에 "<원본 이름>_<접미사>.<확장자>"로 두고, 원본을 지울 때 함께 지움
+// (접미사: thumb, medium)
+public interface FileStorage {
+
+    // 저장소와 같은 파일 시스템에 임시 파일 생성 (store로 원자적 이동 가능)
+    Path createTempFile() throws IOException;
+
+    // 다 쓴 임시 파일을 저장소로 옮기고 URL 반환. 같은 내용이 이미 있으면 임시 파일을 지우고 기존 URL 반환
+    String store(Path tempFile, String sha256, String extension) throws IOException;
+
+    // URL에 해당하는 파일 위치 (저장소 밖을 가리키면 IllegalArgumentException)
+    Path resolve(String fileUrl);
+
+    // 더 이상 참조하는 게시글이 없으면 원본과 파생 파일 삭제. 삭제했으면 true (저장소 밖 URL은 무시)
+    boolean release(String fileUrl);
+
+    // 참조되지 않는 오래된 파일 정리. 삭제한 원본 수 반환
+    int collectGarbage();
+}
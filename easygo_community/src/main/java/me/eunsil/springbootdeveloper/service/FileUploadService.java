@@ -0,0 +1,164 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.dto.FileUploadResult;
+import me.eunsil.springbootdeveloper.util.ImageTypeSniffer;
+import me.eunsil.springbootdeveloper.util.ImageTypeSniffer.ImageType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 첨부 이미지 업로드 파이프라인
+// 파일마다 채널로 스트리밍하면서 앞부분 매직 바이트로 형식을 검사하고, 임시 파일에 쓴 뒤 저장소(FileStorage)로 원자적 이동
+// 여러 파일은 전용 스레드 풀에서 동시에 처리하고 파일별 결과를 돌려줌
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    // transferFrom 한 번에 옮길 최대 바이트 수
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    // 동시에 디스크에 쓰는 파일 수
+    @Value("${file.upload.max-concurrency:4}")
+    private int maxConcurrency;
+
+    private final FileStorage fileStorage;
+
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    void init() {
+        uploadExecutor = Executors.newFixedThreadPool(maxConcurrency,
+                Thread.ofPlatform().name("file-upload-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    // 입력 순서대로 파일별 결과 반환 (빈 파일은 건너뜀)
+    public List<FileUploadResult> store(List<MultipartFile> files) {
+        List<CompletableFuture<FileUploadResult>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> storeOne(file), uploadExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    // 같은 요청의 다른 파일이 거부되어 전체를 취소할 때 사용
+    // 같은 내용을 다른 게시글이 쓰고 있을 수 있으므로 직접 지우지 않고 저장소에 반납
+    public void release(FileUploadResult result) {
+        if (result.isStored()) {
+            fileStorage.release(result.getUrl());
+        }
+    }
+
+    private FileUploadResult storeOne(MultipartFile file) {
+        String originalFilename = file.getOriginalFilename();
+        if (file.getSize() > maxFileSize.toBytes()) {
+            return FileUploadResult.rejected(originalFilename, "파일 크기는 " + maxFileSize.toMegabytes() + "MB를 초과할 수 없습니다.");
+        }
+
+        Path temp = null;
+        try {
+            temp = fileStorage.createTempFile();
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long written;
+            ImageType type;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+
+                // 1. 앞부분만 읽어서 실제 이미지인지 확인
+                ByteBuffer header = readHeader(source);
+                type = ImageTypeSniffer.detect(header.array(), header.position()).orElse(null);
+                if (type == null) {
+                    return rejectAndDelete(temp, originalFilename, "이미지 파일만 업로드 가능합니다.");
+                }
+
+                // 2. 읽은 헤더를 쓰고 나머지는 채널 간 전송으로 복사 (크기 제한은 실제 바이트 기준, 읽으면서 해시 계산)
+                header.flip();
+                while (header.hasRemaining()) {
+                    target.write(header);
+                }
+                written = target.position();
+                long transferred;
+                while ((transferred = target.transferFrom(source, written, TRANSFER_CHUNK)) > 0) {
+                    written += transferred;
+                    if (written > maxFileSize.toBytes()) {
+                        return rejectAndDelete(temp, originalFilename, "파일 크기는 " + maxFileSize.toMegabytes() + "MB를 초과할 수 없습니다.");
+                    }
+                }
+                target.force(false);
+            }
+
+            // 3. 내용 해시 기준으로 저장소에 넣음 (같은 내용이 있으면 기존 파일 재사용, 확장자는 판별한 형식 기준)
+            String url = fileStorage.store(temp, HexFormat.of().formatHex(digest.digest()), type.getExtension());
+
+            log.debug("File saved: {} ({} bytes, {})", url, written, type.getContentType());
+            return FileUploadResult.stored(originalFilename, url, type.getContentType(), written);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("File upload failed: {}", originalFilename, e);
+            deleteQuietly(temp);
+            return FileUploadResult.rejected(originalFilename, "파일 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static FileUploadResult rejectAndDelete(Path temp, String originalFilename, String error) {
+        deleteQuietly(temp);
+        return FileUploadResult.rejected(originalFilename, error);
+    }
+
+    // 헤더 길이만큼 채우거나 스트림이 끝날 때까지 읽기
+    private static ByteBuffer readHeader(ReadableByteChannel source) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ImageTypeSniffer.HEADER_LENGTH);
+        while (header.hasRemaining()) {
+            if (source.read(header) < 0) {
+                break;
+            }
+        }
+        return header;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", path, e);
+        }
+    }
+}
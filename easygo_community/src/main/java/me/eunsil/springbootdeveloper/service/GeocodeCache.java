@@ -0,0 +1,236 @@
+package me.eunsil.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.GeocodeCacheEntry;
+import me.eunsil.springbootdeveloper.repository.GeocodeCacheRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 주소 -> 좌표 2단계 캐시
+// 1단계: 힙 안의 Caffeine 캐시 (크기 제한), 2단계: Mongo geocode_cache 컬렉션 (재시작 후에도 유지)
+// 둘 다 없을 때만 Kakao API를 호출하고, "주소를 찾을 수 없음" 결과도 짧은 TTL로 캐시
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeocodeCache {
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakao.geocode.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${kakao.geocode.cache.ttl:30d}")
+    private Duration ttl;
+
+    @Value("${kakao.geocode.cache.negative-ttl:1h}")
+    private Duration negativeTtl;
+
+    @Value("${kakao.geocode.cache.warm-up-size:1000}")
+    private int warmUpSize;
+
+    // 동시에 실행하는 Mongo 조회 수 (요청 스레드 대신 조회 스레드가 기다림)
+    @Value("${kakao.geocode.cache.lookup-concurrency:4}")
+    private int lookupConcurrency;
+
+    // 가상 스레드 모드에서는 조회마다 가상 스레드를 만들고 동시 조회 수는 lookupPermits로 제한
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private Cache<String, GeocodeCacheEntry> memory;
+    private ExecutorService lookupExecutor;
+    private Semaphore lookupPermits;
+
+    private Counter memoryHits;
+    private Counter persistentHits;
+    private Counter misses;
+    private Counter latencySaved;
+    private Timer apiLatency;
+
+    @PostConstruct
+    void init() {
+        lookupPermits = new Semaphore(lookupConcurrency);
+        lookupExecutor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(lookupConcurrency,
+                        Thread.ofPlatform().name("geocode-lookup-", 0).daemon(true).factory());
+        memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, GeocodeCacheEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, GeocodeCacheEntry entry, long currentTime) {
+                        // 영구 저장소의 만료 시각을 그대로 따름
+                        Duration left = Duration.between(Instant.now(), entry.getExpiresAt());
+                        return Math.max(0L, left.toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, GeocodeCacheEntry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, GeocodeCacheEntry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "geocode");
+
+        // 적중률 = (memory + mongo) / 전체, 절약한 시간 = 적중 수 * 평균 API 지연
+        memoryHits = lookupCounter("memory");
+        persistentHits = lookupCounter("mongo");
+        misses = lookupCounter("api");
+        latencySaved = Counter.builder("geocode.cache.latency.saved")
+                .description("Estimated Kakao API latency avoided by geocode cache hits")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        apiLatency = Timer.builder("geocode.api.latency")
+                .description("Kakao address search latency on geocode cache misses")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lookupExecutor.shutdown();
+    }
+
+    private Counter lookupCounter(String tier) {
+        return Counter.builder("geocode.cache.lookups")
+                .description("Geocode lookups by the tier that answered them")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    // 재시작 직후에도 자주 쓰는 주소는 Mongo를 거치지 않도록 최근 결과를 메모리에 미리 올림
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) {
+            return;
+        }
+        try {
+            List<GeocodeCacheEntry> entries = geocodeCacheRepository
+                    .findByExpiresAtAfterAndLatNotNullOrderByUpdatedAtDesc(Instant.now(), PageRequest.of(0, warmUpSize));
+            entries.forEach(entry -> memory.put(entry.getAddress(), entry));
+            log.info("Geocode cache warmed up with {} entries", entries.size());
+        } catch (RuntimeException e) {
+            log.warn("Geocode cache warm-up failed", e);
+        }
+    }
+
+    // 캐시에 없을 때만 loader(Kakao API)를 호출. loader가 실패하면 캐시하지 않고 실패한 future를 그대로 반환
+    // 메모리 적중은 바로 완료된 future, Mongo 조회부터는 lookupExecutor에서 실행해서 호출한 스레드를 막지 않음
+    public CompletableFuture<Optional<Course.Coordinates>> getAsync(
+            String address, Function<String, CompletableFuture<Optional<Course.Coordinates>>> loader) {
+        String key = normalize(address);
+        if (key.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        GeocodeCacheEntry cached = memory.getIfPresent(key);
+        if (cached != null) {
+            recordHit(memoryHits);
+            return CompletableFuture.completedFuture(Optional.ofNullable(cached.toCoordinates()));
+        }
+
+        return CompletableFuture.supplyAsync(() -> findStored(key), lookupExecutor)
+                .thenCompose(stored -> {
+                    if (stored != null) {
+                        memory.put(key, stored);
+                        recordHit(persistentHits);
+                        return CompletableFuture.completedFuture(Optional.ofNullable(stored.toCoordinates()));
+                    }
+                    return load(key, address, loader);
+                });
+    }
+
+    private CompletableFuture<Optional<Course.Coordinates>> load(
+            String key, String address, Function<String, CompletableFuture<Optional<Course.Coordinates>>> loader) {
+        misses.increment();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return loader.apply(address).whenComplete((loaded, error) -> {
+            sample.stop(apiLatency);
+            if (error == null) {
+                put(key, loaded.orElse(null));
+            }
+        });
+    }
+
+    private void recordHit(Counter tier) {
+        tier.increment();
+        double meanSeconds = apiLatency.mean(TimeUnit.SECONDS);
+        if (meanSeconds > 0) {
+            latencySaved.increment(meanSeconds);
+        }
+    }
+
+    // 조회 스레드에서 permit을 기다림 (플랫폼 스레드 풀은 풀 크기가 같아서 기다리지 않음)
+    private GeocodeCacheEntry findStored(String key) {
+        try {
+            lookupPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            return geocodeCacheRepository.findById(key)
+                    .filter(entry -> !entry.isExpired(Instant.now()))  // TTL 인덱스 삭제는 최대 1분 늦을 수 있음
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Geocode cache lookup failed for {}", key, e);
+            return null;
+        } finally {
+            lookupPermits.release();
+        }
+    }
+
+    private void put(String key, Course.Coordinates coordinates) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(coordinates != null ? ttl : negativeTtl);
+        GeocodeCacheEntry entry = new GeocodeCacheEntry(key, coordinates, now, expiresAt);
+        memory.put(key, entry);
+        try {
+            geocodeCacheRepository.save(entry);
+        } catch (RuntimeException e) {
+            // 영구 저장에 실패해도 메모리 캐시와 응답은 유지
+            log.warn("Failed to persist geocode cache entry for {}", key, e);
+        }
+    }
+
+    // 공백/대소문자/유니코드 조합 차이만 있는 주소는 같은 키로
+    static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,244 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.domain.ImageVariant;
+import me.eunsil.springbootdeveloper.dto.ImageVariants;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 업로드된 이미지의 축소본(썸네일, 중간 크기) 생성
+// 요청 스레드가 아닌 전용 스레드 풀에서 만들고, 만든 결과(변형본 URL)를 image_variants에 기록
+// 조회할 때는 이 기록만 읽고 파일 시스템은 확인하지 않음 (기록이 없으면 아직 생성 전이므로 원본 URL)
+// 예) /uploads/ab/cd/abcd.png -> /uploads/ab/cd/abcd_thumb.jpg, abcd_medium.jpg (투명도가 있으면 .png)
+// 변형본은 원본 옆에 두므로 원본을 지울 때 FileStorage가 파일과 기록을 함께 지움
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    public enum Variant {
+        THUMBNAIL("thumb", 320),
+        MEDIUM("medium", 1280);
+
+        private final String suffix;
+        private final int width;
+
+        Variant(String suffix, int width) {
+            this.suffix = suffix;
+            this.width = width;
+        }
+    }
+
+    // 이보다 픽셀 수가 큰 이미지는 디코딩하지 않음 (압축 폭탄 방지)
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @Value("${file.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${file.variant.max-concurrency:2}")
+    private int maxConcurrency;
+
+    private final FileStorage fileStorage;
+    private final ImageVariantRepository imageVariantRepository;
+
+    private ExecutorService variantExecutor;
+
+    @PostConstruct
+    void init() {
+        variantExecutor = Executors.newFixedThreadPool(maxConcurrency,
+                Thread.ofPlatform().name("image-variant-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        variantExecutor.shutdown();
+    }
+
+    // 기록을 시작하기 전에 올라온 파일들의 변형본을 한 번 기록 (이미 만들어 둔 파일은 다시 만들지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordExisting() {
+        List<String> fileUrls = imageVariantRepository.findUnrecordedFileUrls();
+        if (!fileUrls.isEmpty()) {
+            log.info("Recording image variants for {} existing files", fileUrls.size());
+            for (String fileUrl : fileUrls) {
+                variantExecutor.execute(() -> generate(fileUrl));
+            }
+        }
+    }
+
+    // 저장이 끝난 원본들의 변형본을 백그라운드에서 생성
+    public void generateAsync(List<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            variantExecutor.execute(() -> generate(fileUrl));
+        }
+    }
+
+    // 원본과 변형본 URL. 변형본이 없으면(생성 전, 원본이 더 작음, 지원하지 않는 형식) 원본 URL 사용
+    public ImageVariants variantsOf(String fileUrl) {
+        return variantsOf(List.of(fileUrl)).get(0);
+    }
+
+    // 여러 파일의 변형본 URL을 쿼리 한 번으로 조회 (fileUrls 순서 유지)
+    public List<ImageVariants> variantsOf(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ImageVariant> recorded = new HashMap<>();
+        for (ImageVariant variant : imageVariantRepository.findAllById(new HashSet<>(fileUrls))) {
+            recorded.put(variant.getFileUrl(), variant);
+        }
+        return fileUrls.stream().map(fileUrl -> {
+            ImageVariant variant = recorded.get(fileUrl);
+            return variant != null
+                    ? new ImageVariants(fileUrl, variant.getThumbnailUrl(), variant.getMediumUrl())
+                    : new ImageVariants(fileUrl, fileUrl, fileUrl);
+        }).toList();
+    }
+
+    void generate(String fileUrl) {
+        try {
+            Map<Variant, String> urls = new EnumMap<>(Variant.class);
+            Path original = fileStorage.resolve(fileUrl);
+            BufferedImage source = read(original);
+            if (source != null) {  // null이면 ImageIO가 읽지 못하는 형식 (WebP 등): 원본만 제공
+                boolean alpha = source.getColorModel().hasAlpha();
+                String extension = alpha ? ".png" : ".jpg";
+                for (Variant variant : Variant.values()) {
+                    if (source.getWidth() <= variant.width) {
+                        continue;  // 원본이 이미 충분히 작음
+                    }
+                    String name = variantName(original.getFileName().toString(), variant, extension);
+                    Path target = original.resolveSibling(name);
+                    // 이미 있으면 같은 내용의 이미지가 먼저 올라와서 만들어 둔 변형본
+                    if (!Files.exists(target)) {
+                        write(resize(source, variant.width, alpha), target, alpha);
+                    }
+                    urls.put(variant, fileUrl.substring(0, fileUrl.length() - fileName(fileUrl).length()) + name);
+                }
+            }
+            imageVariantRepository.save(new ImageVariant(fileUrl,
+                    urls.getOrDefault(Variant.THUMBNAIL, fileUrl), urls.getOrDefault(Variant.MEDIUM, fileUrl)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}", fileUrl, e);
+        }
+    }
+
+    private BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("Skipping image variants for {}: too many pixels", path.getFileName());
+                    return null;
+                }
+                return reader.read(0);  // 애니메이션 GIF는 첫 프레임
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 목표 크기의 두 배보다 크면 절반씩 줄인 뒤 마지막에 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+    static BufferedImage resize(BufferedImage source, int targetWidth, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * (double) targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width / 2 >= targetWidth) {
+            width /= 2;
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, type);
+        }
+        if (width != targetWidth || height != targetHeight || current == source) {
+            current = draw(current, targetWidth, targetHeight, type);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 반쯤 쓰인 파일이 보이지 않게 함
+    private void write(BufferedImage image, Path target, boolean alpha) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            if (alpha) {
+                ImageIO.write(image, "png", temp.toFile());
+            } else {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                    writer.setOutput(output);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String variantName(String fileName, Variant variant, String extension) {
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return base + "_" + variant.suffix + extension;
+    }
+
+    private static String fileName(String fileUrl) {
+        return fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+    }
+}
@@ -1,69 +1,237 @@
 package me.eunsil.springbootdeveloper.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import me.eunsil.springbootdeveloper.domain.Course;
 import me.eunsil.springbootdeveloper.dto.SpotCoordinate;
+import me.eunsil.springbootdeveloper.exception.ExternalApiException;
+import me.eunsil.springbootdeveloper.util.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import java.util.List;
-import java.util.Map;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoMapService {
 
+    private static final String ADDRESS_SEARCH_PATH = "/v2/local/search/address.json";
+
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
 
-    private final RestTemplate restTemplate;
+    // 테스트에서는 로컬 스텁 서버 주소로 교체
+    @Value("${kakao.api.url:https://dapi.kakao.com}")
+    private String kakaoApiUrl;
+
+    // 요청 하나(시도 한 번)의 응답 대기 시간
+    @Value("${kakao.api.request-timeout:3s}")
+    private Duration requestTimeout;
+
+    // 첫 시도를 포함한 최대 시도 횟수
+    @Value("${kakao.api.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 대기 시간 기준값. n번째 재시도는 0 ~ backoff * 2^(n-1) 사이에서 무작위 (full jitter)
+    @Value("${kakao.api.retry-backoff:200ms}")
+    private Duration retryBackoff;
+
+    @Value("${kakao.api.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${kakao.api.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final GeocodeCache geocodeCache;
+    private final MeterRegistry meterRegistry;
+
+    private CircuitBreaker circuitBreaker;
+    private Counter circuitRejections;
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        circuitRejections = Counter.builder("kakao.api.circuit.rejections")
+                .description("Kakao API calls rejected without a request because the circuit was open")
+                .register(meterRegistry);
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("kakao.api.circuit.state", this, service -> switch (service.getCircuitState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .description("Kakao API circuit breaker state")
+                .register(meterRegistry);
+    }
 
     public SpotCoordinate getCoordinates(Course.Spot spot) {
-        String url = "https://dapi.kakao.com/v2/local/search/address.json";
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-            .queryParam("query", spot.getAddress());
-        
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-        
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                entity,
-                Map.class
+            return getCoordinatesAsync(spot).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("좌표 변환 중 오류가 발생했습니다: " + cause.getMessage());
+        }
+    }
+
+    public CompletableFuture<SpotCoordinate> getCoordinatesAsync(Course.Spot spot) {
+        return geocodeAsync(spot.getAddress()).thenApply(found -> {
+            Course.Coordinates coordinates = found
+                    .orElseThrow(() -> new IllegalArgumentException("주소를 찾을 수 없습니다: " + spot.getAddress()));
+
+            // 좌표 정보를 Spot 객체에도 저장
+            spot.setCoordinates(coordinates);
+
+            return new SpotCoordinate(
+                spot.getName(),
+                spot.getTime(),
+                coordinates.getLat(),
+                coordinates.getLng()
             );
-            
-            Map<String, Object> body = response.getBody();
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
-            
-            if (!documents.isEmpty()) {
-                Map<String, Object> firstResult = documents.get(0);
-                double latitude = Double.parseDouble((String) firstResult.get("y"));
-                double longitude = Double.parseDouble((String) firstResult.get("x"));
-                
-                // 좌표 정보를 Spot 객체에도 저장
-                spot.setCoordinates(new Course.Coordinates(latitude, longitude));
-                
-                return new SpotCoordinate(
-                    spot.getName(),
-                    spot.getTime(),
-                    latitude,
-                    longitude
-                );
+        });
+    }
+
+    // 주소 -> 좌표. 검색 결과가 없으면 empty (결과 없음도 캐시되므로 같은 주소로 API를 반복 호출하지 않음)
+    public Optional<Course.Coordinates> geocode(String address) {
+        try {
+            return geocodeAsync(address).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public CompletableFuture<Optional<Course.Coordinates>> geocodeAsync(String address) {
+        return geocodeCache.getAsync(address, this::searchAddress);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // Kakao 주소 검색 API 호출 (캐시를 거치지 않음). 재시도 가능한 오류는 maxAttempts까지 다시 시도
+    private CompletableFuture<Optional<Course.Coordinates>> searchAddress(String address) {
+        return attempt(address, 1);
+    }
+
+    private CompletableFuture<Optional<Course.Coordinates>> attempt(String address, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitRejections.increment();
+            return CompletableFuture.failedFuture(
+                    new ExternalApiException("Kakao API circuit is open", false));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(addressSearchRequest(address), HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::parseAddressSearch)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        circuitBreaker.onSuccess();
+                        sample.stop(requestTimer(result.isPresent() ? "SUCCESS" : "NOT_FOUND", "None"));
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    ExternalApiException failure = toExternalApiException(error);
+                    sample.stop(requestTimer(failure.isRetryable() ? "SERVER_ERROR" : "CLIENT_ERROR",
+                            (failure.getCause() != null ? failure.getCause() : failure).getClass().getSimpleName()));
+                    if (failure.isRetryable()) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        // 4xx, 해석할 수 없는 응답은 장애도 정상 응답도 아니므로 서킷 상태에는 반영하지 않음
+                        // (HALF_OPEN 시험 호출이었다면 서킷을 닫지 않고 다음 시험 호출만 허용)
+                        circuitBreaker.onIgnored();
+                    }
+                    if (!failure.isRetryable() || attempt >= maxAttempts) {
+                        return CompletableFuture.<Optional<Course.Coordinates>>failedFuture(failure);
+                    }
+                    long delayMillis = backoffMillis(attempt);
+                    log.debug("Kakao address search failed (attempt {}/{}), retrying in {}ms: {}",
+                            attempt, maxAttempts, delayMillis, failure.getMessage());
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(address, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    // 재시도를 포함한 시도 한 번마다 기록. SERVER_ERROR는 재시도 대상(5xx, 429, 연결 실패, 타임아웃)
+    private Timer requestTimer(String outcome, String exception) {
+        return Timer.builder("kakao.api.requests")
+                .description("Kakao address search attempts")
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private HttpRequest addressSearchRequest(String address) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(kakaoApiUrl + ADDRESS_SEARCH_PATH)
+            .queryParam("query", address)
+            .encode()
+            .build()
+            .toUri();
+
+        return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Authorization", "KakaoAK " + kakaoApiKey)
+                .GET()
+                .build();
+    }
+
+    private Optional<Course.Coordinates> parseAddressSearch(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status == 429 || status >= 500) {
+            throw new ExternalApiException("Kakao API responded " + status, true);
+        }
+        if (status >= 400) {
+            throw new ExternalApiException("Kakao API responded " + status, false);
+        }
+
+        try {
+            JsonNode documents = objectMapper.readTree(response.body()).path("documents");
+            if (!documents.isArray() || documents.isEmpty()) {
+                return Optional.empty();
             }
-            
-            throw new RuntimeException("주소를 찾을 수 없습니다: " + spot.getAddress());
-        } catch (Exception e) {
-            throw new RuntimeException("좌표 변환 중 오류가 발생했습니다: " + e.getMessage());
+            JsonNode firstResult = documents.get(0);
+            double latitude = Double.parseDouble(firstResult.path("y").asText());
+            double longitude = Double.parseDouble(firstResult.path("x").asText());
+            return Optional.of(new Course.Coordinates(latitude, longitude));
+        } catch (IOException | NumberFormatException e) {
+            throw new ExternalApiException("Invalid Kakao API response", e, false);
         }
     }
+
+    private static ExternalApiException toExternalApiException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ExternalApiException external) {
+            return external;
+        }
+        // 연결 실패, 타임아웃(HttpTimeoutException) 등
+        if (cause instanceof IOException) {
+            return new ExternalApiException("Kakao API call failed: " + cause.getMessage(), cause, true);
+        }
+        return new ExternalApiException("Kakao API call failed: " + cause.getMessage(), cause, false);
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = retryBackoff.toMillis() << Math.min(attempt - 1, 10);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
 }
@@ -0,0 +1,91 @@
+package me.eunsil.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import me.eunsil.springbootdeveloper.exception.ResourceNotFoundException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// 업로드 파일 서빙용 메타데이터 (위치, 크기, ETag, Content-Type)
+// 저장소 파일 이름이 곧 SHA-256이므로 대부분 해시를 다시 계산하지 않고 ETag로 사용
+// 예전 UUID 이름 파일과 썸네일 등 변형본만 한 번 계산해서 캐시
+@Service
+@RequiredArgsConstructor
+public class MediaService {
+
+    private static final Pattern SHA256_NAME = Pattern.compile("[0-9a-f]{64}");
+
+    private final FileStorage fileStorage;
+
+    // 경로 + 크기 + 수정 시각 -> 내용 해시 (파일이 바뀌면 키가 달라짐)
+    private final Cache<String, String> digestCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public MediaFile find(String fileUrl) {
+        Path path;
+        BasicFileAttributes attributes;
+        try {
+            path = fileStorage.resolve(fileUrl);
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ResourceNotFoundException("File not found: " + fileUrl);
+        }
+        if (!attributes.isRegularFile() || path.getFileName().toString().endsWith(".part")) {
+            throw new ResourceNotFoundException("File not found: " + fileUrl);
+        }
+
+        String fileName = path.getFileName().toString();
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        String etag;
+        try {
+            etag = "\"" + contentHash(path, attributes) + "\"";
+        } catch (UncheckedIOException e) {
+            throw new ResourceNotFoundException("File not found: " + fileUrl);  // 읽는 사이에 삭제됨
+        }
+        return new MediaFile(path, attributes.size(), etag, contentType);
+    }
+
+    private String contentHash(Path path, BasicFileAttributes attributes) {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        if (SHA256_NAME.matcher(baseName).matches()) {
+            return baseName;
+        }
+        String key = path + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis();
+        return digestCache.get(key, k -> sha256(path));
+    }
+
+    private static String sha256(Path path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record MediaFile(Path path, long size, String etag, MediaType contentType) {
+    }
+}
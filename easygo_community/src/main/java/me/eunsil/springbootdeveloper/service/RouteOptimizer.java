@@ -0,0 +1,338 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 하루 일정의 스팟 방문 순서 최적화 (haversine 이동 거리 합 최소, 시작/끝이 정해지지 않은 경로)
+// 1. 시간대 제약을 지키는 최근접 이웃으로 초기 경로 (시작점 후보마다 만들어서 가장 짧은 것)
+// 2. 2-opt(구간 뒤집기)와 Or-opt(1~3개 묶음 옮기기)로 더 줄지 않을 때까지 개선
+// 시간대 제약: Spot.time 기준 오전(~12:00) -> 오후(~17:00) -> 저녁 순서를 거스르지 않음. 시간이 없는 스팟은 어디든 가능
+// 시간 예산을 넘기면 그때까지 찾은 경로를 그대로 반환
+@Component
+public class RouteOptimizer {
+
+    public static final int NO_SLOT = -1;
+
+    private static final double EPSILON = 1e-9;
+    private static final int SLOT_COUNT = 3;
+    private static final int MAX_CHAIN = 3;
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2}):(\\d{2})");
+
+    // 하루 일정 하나를 최적화하는 데 쓸 수 있는 최대 시간
+    @Value("${route.optimizer.time-budget:50ms}")
+    private Duration timeBudget;
+
+    public record Stop(double lat, double lng, int slot) {
+    }
+
+    // order[k] = k번째로 방문할 스팟의 입력 인덱스
+    public record Result(int[] order, double distanceKm, double originalDistanceKm, boolean timedOut) {
+    }
+
+    public Result optimize(List<Stop> stops) {
+        return optimize(stops, timeBudget);
+    }
+
+    public Result optimize(List<Stop> stops, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        int n = stops.size();
+        double[][] dist = new double[n][n];
+        int[] slots = new int[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = stops.get(i).slot();
+            for (int j = 0; j < i; j++) {
+                dist[i][j] = dist[j][i] = GeoUtil.distanceKm(stops.get(i).lat(), stops.get(i).lng(), stops.get(j).lat(), stops.get(j).lng());
+            }
+        }
+
+        int[] original = new int[n];
+        Arrays.setAll(original, i -> i);
+        double originalDistance = length(original, dist);
+        if (n <= 1) {
+            return new Result(original, originalDistance, originalDistance, false);
+        }
+
+        int[] route = seed(dist, slots, deadline);
+        boolean timedOut = improve(route, dist, slots, deadline);
+        double distance = length(route, dist);
+
+        // 원래 순서가 이미 제약을 지키면서 더 짧으면 그대로 둠
+        if (isFeasible(original, slots) && originalDistance <= distance + EPSILON) {
+            return new Result(original, originalDistance, originalDistance, timedOut);
+        }
+        return new Result(route, distance, originalDistance, timedOut);
+    }
+
+    // "10:30", "9:00~11:00" 등에서 첫 시각으로 시간대 결정 (Python optimize_travel_course와 같은 경계). 없으면 NO_SLOT
+    public static int slotOf(String time) {
+        if (time == null) {
+            return NO_SLOT;
+        }
+        Matcher matcher = TIME.matcher(time);
+        if (!matcher.find()) {
+            return NO_SLOT;
+        }
+        int hour = Integer.parseInt(matcher.group(1));
+        int minute = Integer.parseInt(matcher.group(2));
+        if (hour > 23 || minute > 59) {
+            return NO_SLOT;
+        }
+        int minutes = hour * 60 + minute;
+        if (minutes <= 12 * 60) {
+            return 0;
+        }
+        return minutes <= 17 * 60 ? 1 : 2;
+    }
+
+    // 시작점 후보마다 최근접 이웃 경로를 만들어 가장 짧은 것 선택. 예산의 1/4까지만 사용 (최소 한 번은 만듦)
+    private static int[] seed(double[][] dist, int[] slots, long deadline) {
+        long seedDeadline = System.nanoTime() + (deadline - System.nanoTime()) / 4;
+        int firstSlot = lowestSlot(remainingBySlot(slots));
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+        for (int start = 0; start < slots.length; start++) {
+            if (slots[start] != NO_SLOT && slots[start] != firstSlot) {
+                continue;
+            }
+            int[] route = nearestNeighbour(start, dist, slots);
+            double routeLength = length(route, dist);
+            if (routeLength < bestLength) {
+                best = route;
+                bestLength = routeLength;
+            }
+            if (System.nanoTime() > seedDeadline) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    // 다음 스팟은 시간 제약이 없거나, 남은 스팟 중 가장 이른 시간대인 것 중에서 가장 가까운 것
+    private static int[] nearestNeighbour(int start, double[][] dist, int[] slots) {
+        int n = slots.length;
+        int[] remaining = remainingBySlot(slots);
+        boolean[] visited = new boolean[n];
+        int[] route = new int[n];
+        route[0] = start;
+        visited[start] = true;
+        if (slots[start] != NO_SLOT) {
+            remaining[slots[start]]--;
+        }
+        for (int k = 1; k < n; k++) {
+            int current = route[k - 1];
+            int allowedSlot = lowestSlot(remaining);
+            int next = -1;
+            for (int j = 0; j < n; j++) {
+                if (!visited[j] && (slots[j] == NO_SLOT || slots[j] == allowedSlot)
+                        && (next < 0 || dist[current][j] < dist[current][next])) {
+                    next = j;
+                }
+            }
+            route[k] = next;
+            visited[next] = true;
+            if (slots[next] != NO_SLOT) {
+                remaining[slots[next]]--;
+            }
+        }
+        return route;
+    }
+
+    // 더 줄지 않을 때까지 2-opt, Or-opt 반복. 예산을 넘겨서 멈췄으면 true
+    private static boolean improve(int[] route, double[][] dist, int[] slots, long deadline) {
+        boolean improved = true;
+        while (improved) {
+            if (System.nanoTime() > deadline) {
+                return true;
+            }
+            improved = twoOpt(route, dist, slots, deadline);
+            improved |= orOpt(route, dist, slots, deadline);
+        }
+        return false;
+    }
+
+    // 구간 [i..j]를 뒤집어서 짧아지면 적용
+    // 구간 안의 시간 제약 스팟이 모두 같은 시간대일 때만 뒤집을 수 있음 (다르면 순서가 거꾸로 됨)
+    private static boolean twoOpt(int[] route, double[][] dist, int[] slots, long deadline) {
+        int n = route.length;
+        boolean improved = false;
+        for (int i = 0; i < n - 1; i++) {
+            if (System.nanoTime() > deadline) {
+                return improved;
+            }
+            int low = Integer.MAX_VALUE;
+            int high = Integer.MIN_VALUE;
+            for (int j = i; j < n; j++) {
+                int slot = slots[route[j]];
+                if (slot != NO_SLOT) {
+                    low = Math.min(low, slot);
+                    high = Math.max(high, slot);
+                }
+                if (low < high) {
+                    break;  // j를 늘려도 계속 섞여 있음
+                }
+                if (j == i) {
+                    continue;
+                }
+                double before = edge(dist, i > 0 ? route[i - 1] : -1, route[i]) + edge(dist, route[j], j < n - 1 ? route[j + 1] : -1);
+                double after = edge(dist, i > 0 ? route[i - 1] : -1, route[j]) + edge(dist, route[i], j < n - 1 ? route[j + 1] : -1);
+                if (after < before - EPSILON) {
+                    reverse(route, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 연속된 1~3개 스팟을 떼어서 (필요하면 뒤집어서) 가장 짧아지는 자리로 옮김
+    // 옮긴 자리 앞쪽은 모두 묶음보다 이르지 않고, 뒤쪽은 모두 늦지 않은 시간대여야 함
+    private static boolean orOpt(int[] route, double[][] dist, int[] slots, long deadline) {
+        int n = route.length;
+        boolean improved = false;
+        int[] rest = new int[n];
+        int[] prefixMax = new int[n];
+        int[] suffixMin = new int[n];
+        for (int chain = 1; chain <= MAX_CHAIN && chain < n; chain++) {
+            for (int i = 0; i + chain <= n; i++) {
+                if (System.nanoTime() > deadline) {
+                    return improved;
+                }
+                int first = route[i];
+                int last = route[i + chain - 1];
+                int prev = i > 0 ? route[i - 1] : -1;
+                int next = i + chain < n ? route[i + chain] : -1;
+                double removeGain = edge(dist, prev, first) + edge(dist, last, next) - edge(dist, prev, next);
+                if (removeGain <= EPSILON) {
+                    continue;  // 삼각 부등식상 다른 곳에 넣어도 짧아질 수 없음
+                }
+
+                int low = Integer.MAX_VALUE;
+                int high = Integer.MIN_VALUE;
+                for (int k = i; k < i + chain; k++) {
+                    if (slots[route[k]] != NO_SLOT) {
+                        low = Math.min(low, slots[route[k]]);
+                        high = Math.max(high, slots[route[k]]);
+                    }
+                }
+                boolean reversible = low >= high;
+
+                int m = 0;
+                for (int k = 0; k < n; k++) {
+                    if (k < i || k >= i + chain) {
+                        rest[m++] = route[k];
+                    }
+                }
+                for (int k = 0; k < m; k++) {
+                    int slot = slots[rest[k]];
+                    prefixMax[k] = Math.max(k > 0 ? prefixMax[k - 1] : NO_SLOT, slot);
+                }
+                for (int k = m - 1; k >= 0; k--) {
+                    int slot = slots[rest[k]] == NO_SLOT ? Integer.MAX_VALUE : slots[rest[k]];
+                    suffixMin[k] = Math.min(k < m - 1 ? suffixMin[k + 1] : Integer.MAX_VALUE, slot);
+                }
+
+                // rest[position] 앞에 넣음 (position == m이면 맨 끝)
+                double bestDelta = -EPSILON;
+                int bestPosition = -1;
+                boolean bestReversed = false;
+                for (int position = 0; position <= m; position++) {
+                    if (position == i
+                            || (position > 0 && prefixMax[position - 1] > low)
+                            || (position < m && suffixMin[position] < high)) {
+                        continue;
+                    }
+                    int a = position > 0 ? rest[position - 1] : -1;
+                    int b = position < m ? rest[position] : -1;
+                    double base = edge(dist, a, b);
+                    double delta = edge(dist, a, first) + edge(dist, last, b) - base - removeGain;
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestPosition = position;
+                        bestReversed = false;
+                    }
+                    if (reversible && chain > 1) {
+                        double reversedDelta = edge(dist, a, last) + edge(dist, first, b) - base - removeGain;
+                        if (reversedDelta < bestDelta) {
+                            bestDelta = reversedDelta;
+                            bestPosition = position;
+                            bestReversed = true;
+                        }
+                    }
+                }
+                if (bestPosition < 0) {
+                    continue;
+                }
+
+                int[] moved = Arrays.copyOfRange(route, i, i + chain);
+                if (bestReversed) {
+                    reverse(moved, 0, chain - 1);
+                }
+                System.arraycopy(rest, 0, route, 0, bestPosition);
+                System.arraycopy(moved, 0, route, bestPosition, chain);
+                System.arraycopy(rest, bestPosition, route, bestPosition + chain, m - bestPosition);
+                improved = true;
+            }
+        }
+        return improved;
+    }
+
+    // 경로 끝(-1)과 이어지는 간선은 거리 0
+    private static double edge(double[][] dist, int from, int to) {
+        return from < 0 || to < 0 ? 0 : dist[from][to];
+    }
+
+    private static double length(int[] route, double[][] dist) {
+        double total = 0;
+        for (int k = 1; k < route.length; k++) {
+            total += dist[route[k - 1]][route[k]];
+        }
+        return total;
+    }
+
+    private static boolean isFeasible(int[] route, int[] slots) {
+        int latest = NO_SLOT;
+        for (int stop : route) {
+            if (slots[stop] != NO_SLOT) {
+                if (slots[stop] < latest) {
+                    return false;
+                }
+                latest = slots[stop];
+            }
+        }
+        return true;
+    }
+
+    private static int[] remainingBySlot(int[] slots) {
+        int[] remaining = new int[SLOT_COUNT];
+        for (int slot : slots) {
+            if (slot != NO_SLOT) {
+                remaining[slot]++;
+            }
+        }
+        return remaining;
+    }
+
+    private static int lowestSlot(int[] remaining) {
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (remaining[slot] > 0) {
+                return slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    private static void reverse(int[] route, int from, int to) {
+        for (; from < to; from++, to--) {
+            int tmp = route[from];
+            route[from] = route[to];
+            route[to] = tmp;
+        }
+    }
+}
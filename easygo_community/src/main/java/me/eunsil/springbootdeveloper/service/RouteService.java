@@ -0,0 +1,217 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import me.eunsil.springbootdeveloper.dto.OptimizedRouteDTO;
+import me.eunsil.springbootdeveloper.dto.RouteDTO;
+import me.eunsil.springbootdeveloper.dto.SpotCoordinate;
+import me.eunsil.springbootdeveloper.repository.CourseRepository;
+import me.eunsil.springbootdeveloper.repository.CourseRepositoryCustom.SpotCoordinatesUpdate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+// 코스의 스팟 좌표 목록을 만드는 서비스
+// 이미 좌표가 저장된 스팟은 건너뛰고, 같은 주소는 한 번만, 나머지는 비동기로 동시에 지오코딩
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteService {
+
+    private final CourseService courseService;
+    private final CourseRepository courseRepository;
+    private final KakaoMapService kakaoMapService;
+    private final RouteOptimizer routeOptimizer;
+    private final CourseRouteService courseRouteService;
+
+    // Kakao API 동시 호출 수 상한 (요청 전체에서 공유)
+    @Value("${kakao.geocode.max-concurrency:8}")
+    private int maxConcurrency;
+
+    private Semaphore geocodePermits;
+
+    @PostConstruct
+    void init() {
+        geocodePermits = new Semaphore(maxConcurrency);
+    }
+
+    public RouteDTO getRoute(String courseId) {
+        CourseRoute route = getRouteSummary(courseId);
+
+        // 원래 순서대로 좌표 목록 생성 (좌표를 못 찾은 스팟은 제외)
+        List<SpotCoordinate> coordinates = new ArrayList<>();
+        for (CourseRoute.DayRoute day : route.getDays()) {
+            for (CourseRoute.RoutePoint point : day.getPoints()) {
+                coordinates.add(new SpotCoordinate(point.getName(), point.getTime(), point.getLat(), point.getLng()));
+            }
+        }
+        return new RouteDTO(coordinates);
+    }
+
+    // 저장된 경로 요약이 현재 코스 버전으로 계산됐고 모든 스팟의 좌표가 확인됐으면 (버전만 읽고) 그대로 사용
+    // 없거나, 코스가 그 뒤에 바뀌었거나, 확인 안 된 스팟이 있으면 코스를 읽어서 지오코딩한 뒤 요약을 다시 저장
+    // 찾을 수 없는 주소는 요약에 기록해서 다음 조회 때 다시 지오코딩하지 않음
+    public CourseRoute getRouteSummary(String courseId) {
+        CourseRoute route = courseRouteService.find(courseId);
+        if (route != null && route.isComplete() && isCurrent(route, courseId)) {
+            return route;
+        }
+        Course course = courseService.getCourseById(courseId);
+        Set<String> unresolved = resolveCoordinates(course.getId(), course.getDays() != null ? course.getDays() : List.of());
+        return courseRouteService.refresh(course, unresolved, route);
+    }
+
+    private boolean isCurrent(CourseRoute route, String courseId) {
+        Long version = courseRepository.findVersion(courseId);
+        return version != null && version == route.getCourseVersion();
+    }
+
+    // 일자별로 이동 거리가 가장 짧은 방문 순서 (시간대 순서는 유지). 좌표를 못 찾은 스팟은 원래 자리에 둠
+    public OptimizedRouteDTO getOptimizedRoute(String courseId) {
+        Course course = courseService.getCourseById(courseId);
+        List<Course.Day> days = course.getDays() != null ? course.getDays() : List.of();
+        resolveCoordinates(course.getId(), days);
+
+        List<OptimizedRouteDTO.DayRoute> routes = new ArrayList<>();
+        for (int dayIndex = 0; dayIndex < days.size(); dayIndex++) {
+            Course.Day day = days.get(dayIndex);
+            List<Course.Spot> spots = day.getSpots() != null ? day.getSpots() : List.of();
+            List<Integer> positions = new ArrayList<>();
+            List<RouteOptimizer.Stop> stops = new ArrayList<>();
+            for (int spotIndex = 0; spotIndex < spots.size(); spotIndex++) {
+                Course.Spot spot = spots.get(spotIndex);
+                if (spot.getCoordinates() != null) {
+                    positions.add(spotIndex);
+                    stops.add(new RouteOptimizer.Stop(spot.getCoordinates().getLat(), spot.getCoordinates().getLng(),
+                            RouteOptimizer.slotOf(spot.getTime())));
+                }
+            }
+
+            RouteOptimizer.Result result = routeOptimizer.optimize(stops);
+            if (result.timedOut()) {
+                log.info("Route optimization for course {} day {} hit the time budget ({} spots)", course.getId(), dayIndex, stops.size());
+            }
+            List<Course.Spot> ordered = new ArrayList<>(spots);
+            for (int k = 0; k < positions.size(); k++) {
+                ordered.set(positions.get(k), spots.get(positions.get(result.order()[k])));
+            }
+            routes.add(new OptimizedRouteDTO.DayRoute(dayIndex, day.getDate(), ordered,
+                    result.distanceKm(), result.originalDistanceKm()));
+        }
+        return new OptimizedRouteDTO(routes);
+    }
+
+    // 좌표가 없는 스팟만 주소로 좌표를 찾아서 채우고, 새로 찾은 좌표는 코스 문서에 저장
+    // 찾을 수 없다는 응답을 받은 주소를 반환 (호출에 실패한 주소는 제외: 다음 조회 때 다시 시도)
+    private Set<String> resolveCoordinates(String courseId, List<Course.Day> days) {
+        // 1. 좌표가 없는 스팟의 주소만 중복 없이 모음
+        Set<String> addresses = new LinkedHashSet<>();
+        forEachSpot(days, (dayIndex, spotIndex, spot) -> {
+            if (spot.getCoordinates() == null) {
+                addresses.add(spot.getAddress());
+            }
+        });
+
+        // 2. 동시 지오코딩
+        Map<String, Optional<Course.Coordinates>> resolved = geocodeAll(addresses);
+
+        // 3. 찾은 좌표를 스팟에 채우고 저장할 목록 생성
+        List<SpotCoordinatesUpdate> updates = new ArrayList<>();
+        Set<String> unresolved = new LinkedHashSet<>();
+        forEachSpot(days, (dayIndex, spotIndex, spot) -> {
+            if (spot.getCoordinates() == null) {
+                Optional<Course.Coordinates> found = resolved.get(spot.getAddress());
+                if (found != null && found.isPresent()) {
+                    spot.setCoordinates(found.get());
+                    updates.add(new SpotCoordinatesUpdate(dayIndex, spotIndex, spot.getAddress(), found.get()));
+                } else if (found != null) {
+                    unresolved.add(spot.getAddress());
+                }
+            }
+        });
+
+        if (!updates.isEmpty()) {
+            try {
+                courseRepository.updateSpotCoordinates(courseId, updates);
+            } catch (RuntimeException e) {
+                // 저장에 실패해도 경로 응답은 그대로 반환 (다음 조회 때 다시 지오코딩)
+                log.warn("Failed to persist coordinates for course {}", courseId, e);
+            }
+        }
+        return unresolved;
+    }
+
+    // 주소 -> 좌표 (찾을 수 없는 주소는 빈 Optional). 호출에 실패한 주소는 결과에서 제외
+    Map<String, Optional<Course.Coordinates>> geocodeAll(Collection<String> addresses) {
+        if (addresses.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, CompletableFuture<Optional<Course.Coordinates>>> futures = new LinkedHashMap<>();
+        for (String address : addresses) {
+            // 허가를 얻은 만큼만 동시에 요청을 보내고, 응답이 오면 반납
+            acquirePermit();
+            CompletableFuture<Optional<Course.Coordinates>> future;
+            try {
+                future = kakaoMapService.geocodeAsync(address);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.put(address, future.whenComplete((result, error) -> geocodePermits.release()));
+        }
+
+        Map<String, Optional<Course.Coordinates>> resolved = new HashMap<>();
+        futures.forEach((address, future) -> {
+            try {
+                resolved.put(address, future.join());
+            } catch (CompletionException e) {
+                log.warn("Geocoding failed for address: {} ({})", address, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        });
+        return resolved;
+    }
+
+    private void acquirePermit() {
+        try {
+            geocodePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("geocoding interrupted", e);
+        }
+    }
+
+    // 주소가 있는 스팟만 (일자 인덱스, 스팟 인덱스)와 함께 순회
+    private static void forEachSpot(List<Course.Day> days, SpotVisitor visitor) {
+        for (int dayIndex = 0; dayIndex < days.size(); dayIndex++) {
+            List<Course.Spot> spots = days.get(dayIndex).getSpots();
+            if (spots == null) {
+                continue;
+            }
+            for (int spotIndex = 0; spotIndex < spots.size(); spotIndex++) {
+                Course.Spot spot = spots.get(spotIndex);
+                if (spot.getAddress() != null && !spot.getAddress().isEmpty()) {
+                    visitor.visit(dayIndex, spotIndex, spot);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SpotVisitor {
+        void visit(int dayIndex, int spotIndex, Course.Spot spot);
+    }
+}
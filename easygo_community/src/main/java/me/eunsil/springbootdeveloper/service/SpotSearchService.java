@@ -0,0 +1,72 @@
+package me.eunsil.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.dto.SpotStat;
+import me.eunsil.springbootdeveloper.repository.CourseRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 전체 사용자의 코스에 담긴 스팟을 위치로 검색 (days.spots.point 2dsphere 인덱스)
+// - 근처: 중심에서 N km 안의 장소를 가까운 순으로
+// - 인기: 지도 영역 안의 장소를 담긴 코스가 많은 순으로
+// 코스 자체(이름, 작성자)는 돌려주지 않고 장소별 집계만 반환
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotSearchService {
+
+    private static final double DEFAULT_RADIUS_KM = 3;
+    private static final double MAX_RADIUS_KM = 50;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    // 근처 검색에서 펼쳐 볼 코스 수 상한 (가까운 코스부터)
+    private static final int MAX_NEARBY_COURSES = 1000;
+
+    private final CourseRepository courseRepository;
+
+    // point 필드가 생기기 전에 좌표가 저장된 스팟은 인덱스에 잡히지 않으므로 기동 시 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSpotPoints() {
+        try {
+            long updated = courseRepository.backfillSpotPoints();
+            if (updated > 0) {
+                log.info("Backfilled spot points for {} courses", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Spot point backfill failed", e);
+        }
+    }
+
+    public List<SpotStat> findNearby(double lat, double lng, Double radiusKm, Integer limit) {
+        checkPoint(lat, lng);
+        double radius = radiusKm == null ? DEFAULT_RADIUS_KM : radiusKm;
+        if (!(radius > 0) || radius > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_RADIUS_KM + " km");
+        }
+        return courseRepository.findSpotsNear(lat, lng, radius, MAX_NEARBY_COURSES, pageSize(limit));
+    }
+
+    public List<SpotStat> findPopular(double swLat, double swLng, double neLat, double neLng, Integer limit) {
+        checkPoint(swLat, swLng);
+        checkPoint(neLat, neLng);
+        // 날짜변경선을 넘거나 반구보다 넓은 영역은 GeoJSON 폴리곤으로 표현할 수 없음
+        if (swLat >= neLat || swLng >= neLng || neLng - swLng >= 180) {
+            throw new IllegalArgumentException("Invalid bounding box");
+        }
+        return courseRepository.findPopularSpotsWithin(swLat, swLng, neLat, neLng, pageSize(limit));
+    }
+
+    private static int pageSize(Integer limit) {
+        return (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    private static void checkPoint(double lat, double lng) {
+        if (!(lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180)) {
+            throw new IllegalArgumentException("Invalid coordinates");
+        }
+    }
+}
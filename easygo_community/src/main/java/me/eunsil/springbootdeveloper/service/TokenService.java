@@ -2,7 +2,7 @@ package me.eunsil.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
 import me.eunsil.springbootdeveloper.config.jwt.TokenProvider;
-import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -23,7 +23,8 @@ public class TokenService {
         }
 
         Long userid = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userid);
+        // 토큰에는 이메일과 id만 들어가므로 users 테이블 대신 캐시된 사용자 정보 사용
+        UserSnapshot user = userService.findSnapshotById(userid);
 
         return tokenProvider.generateToken(user, Duration.ofHours(2));
     }
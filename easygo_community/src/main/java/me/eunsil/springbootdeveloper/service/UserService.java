@@ -2,10 +2,15 @@ package me.eunsil.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.config.CacheConfig;
 import me.eunsil.springbootdeveloper.domain.User;
 import me.eunsil.springbootdeveloper.dto.AddUserRequest;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
 import me.eunsil.springbootdeveloper.repository.RefreshTokenRepository;
 import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final CacheManager cacheManager;
     
 //    private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
@@ -38,17 +44,35 @@ public class UserService {
         return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("unexpected user"));
     }
 
+    // 인증된 요청에서 사용하는 사용자 정보 (캐시에 없을 때만 DB 조회)
+    @Cacheable(cacheNames = CacheConfig.USER_BY_EMAIL, key = "#email")
+    public UserSnapshot findSnapshotByEmail(String email) {
+        return UserSnapshot.from(findByEmail(email));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.USER_BY_ID, key = "#userId")
+    public UserSnapshot findSnapshotById(Long userId) {
+        return UserSnapshot.from(findById(userId));
+    }
+
+    // 연관관계 설정용 프록시 (select 없이 id만 가진 User)
+    public User getReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     public User updateNickname(String nickname, String email) {
-        log.info("Attempting to update nickname for email: {}", email);
+        log.debug("Attempting to update nickname for email: {}", email);
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.error("User not found for email: {}", email);
                     return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
                 });
-        log.info("Found user: {}", user);
+        log.debug("Found user: {}", user);
         User updatedUser = user.update(nickname);
-        log.info("Updating nickname to: {}", nickname);
-        return userRepository.save(updatedUser);
+        log.debug("Updating nickname to: {}", nickname);
+        User savedUser = userRepository.save(updatedUser);
+        evictUserCache(savedUser);
+        return savedUser;
     }
 
     public void deleteUser(String email) {
@@ -60,7 +84,19 @@ public class UserService {
         // 탈퇴 처리
         user.withdraw();
         userRepository.save(user);
-        
+        evictUserCache(user);
+    }
+
+    // 닉네임 변경, 탈퇴 시 캐시된 사용자 정보 제거
+    private void evictUserCache(User user) {
+        Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL);
+        if (byEmail != null) {
+            byEmail.evict(user.getEmail());
+        }
+        Cache byId = cacheManager.getCache(CacheConfig.USER_BY_ID);
+        if (byId != null) {
+            byId.evict(user.getId());
+        }
     }
 }
 
@@ -0,0 +1,100 @@
+package me.eunsil.springbootdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회수 증가를 메모리(LongAdder)에 모아 두었다가 주기적으로 DB에 한 번에 반영하는 버퍼
+// 조회마다 findById + save 하던 트랜잭션과 핫 게시글의 row lock을 없애기 위함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final ArticleCounterRepository articleCounterRepository;
+
+    // 아직 DB에 반영되지 않은 증가분
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // flush 중이라 버퍼에서는 빠졌지만 아직 커밋되지 않은 증가분 (조회 시 숫자가 잠깐 줄어드는 것 방지)
+    private final ConcurrentHashMap<Long, Long> flushing = new ConcurrentHashMap<>();
+    // 스케줄러와 종료 시 flush가 겹치지 않도록. DB 반영 중에도 잡고 있으므로 synchronized 대신 ReentrantLock (가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void increment(Long articleId) {
+        LongAdder adder = pending.computeIfAbsent(articleId, id -> new LongAdder());
+        adder.increment();
+        // flush가 비어 있는 adder를 맵에서 제거한 직후라면, 방금 더한 값을 새 adder로 옮겨서 유실 방지
+        if (pending.get(articleId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved > 0) {
+                pending.computeIfAbsent(articleId, id -> new LongAdder()).add(moved);
+            }
+        }
+    }
+
+    // DB 값에 더해서 보여줄 미반영 조회수
+    public long pendingCount(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        long buffered = adder != null ? adder.sum() : 0L;
+        return buffered + flushing.getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((articleId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                // flushing에 먼저 옮긴 뒤 버퍼에서 빼서, 그 사이 pendingCount가 작게 보이지 않도록 (잠깐 크게 보이는 것은 허용)
+                // 합계를 읽은 뒤 들어온 증가분은 버퍼에 남아 다음 flush로 넘어감
+                flushing.put(articleId, delta);
+                adder.add(-delta);
+                deltas.put(articleId, delta);
+            } else if (pending.remove(articleId, adder)) {
+                // 한동안 조회가 없던 게시글은 맵에서 제거. 제거 직전에 들어온 증가분은 다시 옮겨 담음
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    pending.computeIfAbsent(articleId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            articleCounterRepository.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            // 반영에 실패하면 다음 flush에서 다시 시도하도록 버퍼에 되돌림
+            log.error("View count flush failed, {} articles re-queued", deltas.size(), e);
+            deltas.forEach((articleId, delta) ->
+                    pending.computeIfAbsent(articleId, id -> new LongAdder()).add(delta));
+        } finally {
+            deltas.keySet().forEach(flushing::remove);
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
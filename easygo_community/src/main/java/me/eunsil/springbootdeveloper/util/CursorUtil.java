@@ -0,0 +1,85 @@
+package me.eunsil.springbootdeveloper.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class CursorUtil {
+
+    // 마지막으로 내려준 id를 클라이언트가 해석하지 않는 문자열로 변환
+    public static String encode(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열을 다시 id로 변환. 비어 있으면 첫 페이지(null)
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+    }
+
+    // 검색 결과용 커서: (관련도, id)를 함께 담아 같은 점수 안에서도 순서가 이어지도록 함
+    public static String encode(BigDecimal score, Long id) {
+        if (score == null || id == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((score.toPlainString() + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScoreCursor decodeScored(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            return new ScoreCursor(new BigDecimal(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {  // NumberFormatException 포함
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+    }
+
+    public record ScoreCursor(BigDecimal score, Long id) {
+    }
+
+    // 코스 목록용 커서: (생성 시각, Mongo id). 같은 시각에 만든 코스도 id로 순서가 이어지도록 함
+    public static String encode(LocalDateTime createdAt, String id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimeCursor decodeTimed(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (parts.length != 2 || parts[1].isBlank()) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            return new TimeCursor(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+    }
+
+    public record TimeCursor(LocalDateTime createdAt, String id) {
+    }
+}
@@ -0,0 +1,15 @@
+package me.eunsil.springbootdeveloper.util;
+
+public class GeoUtil {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 두 지점 사이의 대원 거리 (haversine)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,60 @@
+package me.eunsil.springbootdeveloper.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+// 파일 앞부분(매직 바이트)으로 실제 이미지 형식을 판별
+// 클라이언트가 보낸 Content-Type이나 확장자는 믿지 않음
+public class ImageTypeSniffer {
+
+    // 판별에 필요한 최대 바이트 수 (WEBP: RIFF????WEBP)
+    public static final int HEADER_LENGTH = 12;
+
+    public enum ImageType {
+        JPEG("image/jpeg", ".jpg"),
+        PNG("image/png", ".png"),
+        GIF("image/gif", ".gif"),
+        WEBP("image/webp", ".webp");
+
+        private final String contentType;
+        private final String extension;
+
+        ImageType(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    public static Optional<ImageType> detect(byte[] header, int length) {
+        if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return Optional.of(ImageType.JPEG);
+        }
+        if (length >= PNG_SIGNATURE.length && Arrays.equals(header, 0, PNG_SIGNATURE.length, PNG_SIGNATURE, 0, PNG_SIGNATURE.length)) {
+            return Optional.of(ImageType.PNG);
+        }
+        if (length >= 6 && (startsWith(header, "GIF87a") || startsWith(header, "GIF89a"))) {
+            return Optional.of(ImageType.GIF);
+        }
+        if (length >= 12 && startsWith(header, "RIFF")
+                && new String(header, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+            return Optional.of(ImageType.WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, String ascii) {
+        byte[] expected = ascii.getBytes(StandardCharsets.US_ASCII);
+        return Arrays.equals(header, 0, expected.length, expected, 0, expected.length);
+    }
+}
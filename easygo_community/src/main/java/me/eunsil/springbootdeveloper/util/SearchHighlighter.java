@@ -0,0 +1,77 @@
+package me.eunsil.springbootdeveloper.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+// 검색 결과 하이라이트. 원문은 HTML 이스케이프하고 검색어만 <mark>로 감쌈
+public class SearchHighlighter {
+
+    private static final String OPEN = "<mark>";
+    private static final String CLOSE = "</mark>";
+    private static final String ELLIPSIS = "…";
+
+    // 전체 문자열 하이라이트 (제목용)
+    public static String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        return mark(text, terms);
+    }
+
+    // 처음 등장하는 검색어 앞뒤 radius 글자만 잘라서 하이라이트 (본문용)
+    public static String snippet(String text, List<String> terms, int radius) {
+        if (text == null) {
+            return null;
+        }
+        String lower = lowerCase(text);
+        int first = -1;
+        for (String term : terms) {
+            int index = lower.indexOf(term.toLowerCase(Locale.ROOT));
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+
+        int start = first < 0 ? 0 : Math.max(0, first - radius);
+        int end = Math.min(text.length(), (first < 0 ? 0 : first) + radius * 2);
+        String window = text.substring(start, end);
+        return (start > 0 ? ELLIPSIS : "") + mark(window, terms) + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static String mark(String text, List<String> terms) {
+        String lower = lowerCase(text);
+        boolean[] marked = new boolean[text.length()];
+        for (String term : terms) {
+            String needle = term.toLowerCase(Locale.ROOT);
+            if (needle.isEmpty()) {
+                continue;
+            }
+            for (int index = lower.indexOf(needle); index >= 0; index = lower.indexOf(needle, index + needle.length())) {
+                for (int i = index; i < index + needle.length(); i++) {
+                    marked[i] = true;
+                }
+            }
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int i = 0;
+        while (i < text.length()) {
+            int j = i;
+            while (j < text.length() && marked[j] == marked[i]) {
+                j++;
+            }
+            String escaped = HtmlUtils.htmlEscape(text.substring(i, j));
+            result.append(marked[i] ? OPEN + escaped + CLOSE : escaped);
+            i = j;
+        }
+        return result.toString();
+    }
+
+    // 소문자 변환으로 길이가 바뀌는 문자(예: 'İ')가 있으면 인덱스가 어긋나므로 원문 그대로 비교
+    private static String lowerCase(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        return lower.length() == text.length() ? lower : text;
+    }
+}
@@ -0,0 +1,84 @@
+package me.eunsil.springbootdeveloper.config;
+
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(ArticleLikeConstraintMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // ALTER TABLE은 테스트 트랜잭션 밖에서 실행
+class ArticleLikeConstraintMigrationTest {
+
+    @Autowired
+    ArticleLikeConstraintMigration migration;
+    @Autowired
+    BlogRepository blogRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM article_likes");
+        blogRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("migrate(): 제약 없이 쌓인 중복 좋아요를 지우고 like_count를 다시 센 뒤 유니크 제약을 만든다.")
+    @Test
+    void migrate_removesDuplicatesAndCreatesConstraint() {
+        jdbcTemplate.execute("ALTER TABLE article_likes DROP CONSTRAINT " + ArticleLikeConstraintMigration.CONSTRAINT_NAME);
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        User first = userRepository.save(User.builder().email("a@gmail.com").nickname("a").build());
+        User second = userRepository.save(User.builder().email("b@gmail.com").nickname("b").build());
+        like(article, first);
+        like(article, first);
+        like(article, first);
+        like(article, second);
+        jdbcTemplate.update("UPDATE article SET like_count = 4 WHERE id = ?", article.getId());
+
+        migration.migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_likes", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM article WHERE id = ?", Long.class, article.getId()))
+                .isEqualTo(2L);
+        assertThatThrownBy(() -> like(article, second)).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @DisplayName("migrate(): 제약이 이미 있으면 아무것도 바꾸지 않는다.")
+    @Test
+    void migrate_constraintExists() {
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        User user = userRepository.save(User.builder().email("a@gmail.com").nickname("a").build());
+        like(article, user);
+
+        migration.migrate();
+        migration.migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_likes", Long.class)).isEqualTo(1L);
+    }
+
+    private void like(Article article, User user) {
+        jdbcTemplate.update("INSERT INTO article_likes (article_id, user_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                article.getId(), user.getId());
+    }
+}
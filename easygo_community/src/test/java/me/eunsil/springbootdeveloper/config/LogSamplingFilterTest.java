@@ -0,0 +1,63 @@
+package me.eunsil.springbootdeveloper.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setRules("http.request=0, me.eunsil=0.5, me.eunsil.springbootdeveloper.service=1");
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+    }
+
+    @DisplayName("가장 긴 접두사 규칙을 적용하고, 규칙이 없는 카테고리와 WARN 이상은 모두 남긴다.")
+    @Test
+    void rulesByCategory() {
+        Logger request = context.getLogger("http.request");
+        request.info("request");
+        request.atInfo().addKeyValue("status", 200).log("request");
+        request.warn("slow request");
+
+        context.getLogger("me.eunsil.springbootdeveloper.service.BlogService").info("kept");
+        context.getLogger("org.hibernate.SQL").info("no rule");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("slow request", "kept", "no rule");
+    }
+
+    @DisplayName("비율만큼 남기고, isInfoEnabled()로 확인한 뒤 남기는 로그도 한 번만 샘플링한다.")
+    @Test
+    void sampleRate() {
+        Logger logger = context.getLogger("me.eunsil.springbootdeveloper.controller.BlogApiController");
+        int total = 20_000;
+        int enabled = 0;
+        for (int i = 0; i < total; i++) {
+            if (logger.isInfoEnabled()) {
+                enabled++;
+                logger.info("guarded {}", i);
+            }
+        }
+
+        // 두 번 샘플링하면 25% 근처가 되고, 확인을 통과한 로그는 모두 남아야 함
+        assertThat(enabled).isBetween(9_000, 11_000);
+        assertThat(appender.list).hasSize(enabled);
+    }
+}
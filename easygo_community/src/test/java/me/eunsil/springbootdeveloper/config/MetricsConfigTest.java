@@ -0,0 +1,95 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
+import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({MetricsConfig.class, SqlBudgetProperties.class, ArticleCounterRepository.class, MetricsConfigTest.Registry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 필터 안에서 직접 트랜잭션을 열기 위해 테스트 트랜잭션 사용 안 함
+class MetricsConfigTest {
+
+    @TestConfiguration
+    static class Registry {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    BlogRepository blogRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ArticleCounterRepository articleCounterRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        blogRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("요청 하나에서 실행된 SQL 수를 URI 패턴별로 기록해서 작성자 N+1 조회가 드러난다.")
+    @Test
+    void statementsPerRequest() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            User user = userRepository.save(new User("user" + i + "@easygo.com", "", "닉네임" + i, null));
+            blogRepository.save(Article.builder().title("제목" + i).content("본문").user(user).build());
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/articles");
+
+        // 글 목록 1번 + 작성자마다 1번
+        requestMetricsFilter.getFilter().doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        blogRepository.findAll().forEach(article -> article.getUser().getNickname())));
+
+        assertThat(meterRegistry.get("hibernate.statements.per.request").tag("uri", "/api/articles")
+                .summary().max()).isEqualTo(4);
+    }
+
+    @DisplayName("JdbcTemplate으로 구현한 저장소도 Spring Data 저장소와 같은 이름으로 메서드별 실행 시간을 기록한다.")
+    @Test
+    void repositoryInvocations() {
+        articleCounterRepository.addLikeCount(1L, 0);
+
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "ArticleCounterRepository")
+                .tag("method", "addLikeCount")
+                .tag("state", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,129 @@
+package me.eunsil.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.controller.BlogApiController;
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.ArticleListViewResponse;
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
+import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import me.eunsil.springbootdeveloper.service.BlogService;
+import me.eunsil.springbootdeveloper.service.ContentAddressedFileStorage;
+import me.eunsil.springbootdeveloper.service.FileReclamationQueue;
+import me.eunsil.springbootdeveloper.service.FileUploadService;
+import me.eunsil.springbootdeveloper.service.ImageVariantService;
+import me.eunsil.springbootdeveloper.service.ViewCountBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청당 SQL 예산을 넘으면 테스트가 실패하도록 fail-on-exceed를 켜고 검증
+@DataJpaTest(properties = {
+        "file.upload.directory=build/test-uploads",
+        "sql.budget.endpoints.[GET\\ /api/articles]=3",
+        "sql.budget.fail-on-exceed=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({MetricsConfig.class, SqlBudgetProperties.class, SqlBudgetTest.Registry.class,
+        BlogService.class, ViewCountBuffer.class, ArticleCounterRepository.class, FileUploadService.class, ImageVariantService.class,
+        ContentAddressedFileStorage.class, FileReferenceRepository.class, FileReclamationQueue.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SqlBudgetTest {
+
+    private static final int ARTICLES = 5;
+
+    @TestConfiguration
+    static class Registry {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    BlogService blogService;
+    @Autowired
+    BlogRepository blogRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // 글마다 작성자가 달라서 작성자를 글마다 따로 읽으면 SQL이 글 수만큼 늘어남
+        for (int i = 0; i < ARTICLES; i++) {
+            User user = userRepository.save(new User("user" + i + "@easygo.com", "", "닉네임" + i, null));
+            blogRepository.save(Article.builder().title("제목" + i).content("본문").user(user).build());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        blogRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("GET /api/articles: 글 목록은 작성자 수와 상관없이 예산(3) 안에서 응답한다.")
+    @Test
+    void feedWithinBudget() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BlogApiController(blogService, null, null, null))
+                .addFilters(requestMetricsFilter.getFilter())
+                .build();
+
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(ARTICLES));
+
+        assertThat(meterRegistry.get("hibernate.statements.per.request").tag("uri", "/api/articles")
+                .summary().max()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("엔티티에서 목록 응답을 만들면 작성자 N+1로 예산을 넘고, 반복된 SQL의 호출 위치를 알려준다.")
+    @Test
+    void entityMappingExceedsBudget() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/articles");
+
+        assertThatThrownBy(() -> requestMetricsFilter.getFilter().doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        blogRepository.findAll().stream().map(ArticleListViewResponse::new).toList())))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("ran " + (1 + ARTICLES) + " statements (budget 3)")
+                .hasMessageContaining(ARTICLES + "x at ArticleListViewResponse.<init>");
+        assertThat(meterRegistry.get("hibernate.statements.budget.exceeded").tag("uri", "/api/articles")
+                .counter().count()).isEqualTo(1);
+    }
+}
@@ -96,6 +96,44 @@ public class TokenProviderTest {
         assertThat(userIdByToken).isEqualTo(userId);
     }
 
+    @DisplayName("authenticate(): 같은 토큰으로 다시 인증하면 캐시된 사용자 정보로 매번 새 인증 객체를 만든다.")
+    @Test
+    void authenticate_cachedReturnsFreshAuthentication() {
+        String token = JwtFcatory.builder().subject("cached@email.com").build().createToken(jwtProperties);
+
+        Authentication first = tokenProvider.authenticate(token);
+        first.setAuthenticated(false);
+        Authentication second = tokenProvider.authenticate(token);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second.getName()).isEqualTo("cached@email.com");
+    }
 
+    @DisplayName("authenticate(): 캐시된 토큰도 exp가 지나면 인증에 실패한다.")
+    @Test
+    void authenticate_cacheExpiresAtTokenExp() throws InterruptedException {
+        // exp는 초 단위로 저장되므로 다음 초 경계 + 1초로 설정
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = JwtFcatory.builder().expiration(new Date(expiresAt)).build().createToken(jwtProperties);
+
+        assertThat(tokenProvider.authenticate(token)).isNotNull();
 
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 50);
+
+        assertThat(tokenProvider.authenticate(token)).isNull();
+    }
+
+    @DisplayName("authenticate(): 만료된 토큰은 인증에 실패하고 캐시에 남지 않는다.")
+    @Test
+    void authenticate_expiredToken() {
+        String token = JwtFcatory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        assertThat(tokenProvider.authenticate(token)).isNull();
+        assertThat(tokenProvider.authenticate(token)).isNull();
+    }
 }
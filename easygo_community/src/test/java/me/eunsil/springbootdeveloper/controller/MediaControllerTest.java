@@ -0,0 +1,107 @@
+package me.eunsil.springbootdeveloper.controller;
+
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import me.eunsil.springbootdeveloper.service.ContentAddressedFileStorage;
+import me.eunsil.springbootdeveloper.service.MediaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MediaControllerTest {
+
+    private static final String HASH = "ab12" + "0".repeat(60);
+    private static final String URL = "/uploads/ab/12/" + HASH + ".png";
+
+    @TempDir
+    Path uploadDirectory;
+
+    private MockMvc mockMvc;
+    private byte[] bytes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ContentAddressedFileStorage storage = new ContentAddressedFileStorage(mock(FileReferenceRepository.class), mock(ImageVariantRepository.class));
+        ReflectionTestUtils.setField(storage, "uploadDirectory", uploadDirectory.toString());
+        MediaController mediaController = new MediaController(new MediaService(storage));
+        ReflectionTestUtils.setField(mediaController, "cacheMaxAge", Duration.ofDays(365));
+        ReflectionTestUtils.setField(mediaController, "sendfileThreshold", DataSize.ofKilobytes(48));
+        mockMvc = MockMvcBuilders.standaloneSetup(mediaController).build();
+
+        bytes = new byte[100_000];
+        Arrays.fill(bytes, (byte) 7);
+        bytes[0] = 1;
+        bytes[bytes.length - 1] = 9;
+        Path temp = Files.write(storage.createTempFile(), bytes);
+        storage.store(temp, HASH, ".png");
+    }
+
+    @DisplayName("serve(): 파일 해시를 ETag로, immutable 캐시 헤더와 함께 본문을 보낸다.")
+    @Test
+    void serve() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length))
+                .andExpect(content().bytes(bytes));
+
+        mockMvc.perform(head(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @DisplayName("serve(): If-None-Match가 ETag와 같으면 본문 없이 304를 돌려준다.")
+    @Test
+    void serve_notModified() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"" + HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @DisplayName("serve(): Range 요청은 해당 구간만 206으로 보내고, 범위를 벗어나면 416을 돌려준다.")
+    @Test
+    void serve_range() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 99990-99999/100000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(bytes, 99_990, 100_000)));
+
+        // If-Range가 다른 ETag면 Range를 무시하고 전체를 보냄
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=0-0").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=200000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100000"));
+    }
+
+    @DisplayName("serve(): 없는 파일이나 저장소 밖 경로는 404를 돌려준다.")
+    @Test
+    void serve_notFound() throws Exception {
+        mockMvc.perform(get("/uploads/ab/12/missing.png")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/../build.gradle")).andExpect(status().isNotFound());
+    }
+}
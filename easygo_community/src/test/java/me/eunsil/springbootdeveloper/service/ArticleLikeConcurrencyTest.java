@@ -0,0 +1,143 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
+import me.eunsil.springbootdeveloper.repository.ArticleLikeRepository;
+import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좋아요 토글을 64개 스레드가 동시에 눌러도 like_count가 좋아요 행 수와 정확히 일치하는지 검증
+@DataJpaTest(properties = {
+        "file.upload.directory=build/test-uploads"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({BlogService.class, ViewCountBuffer.class, ArticleCounterRepository.class, FileUploadService.class, ImageVariantService.class,
+        ContentAddressedFileStorage.class, FileReferenceRepository.class, FileReclamationQueue.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드의 커밋 결과를 서로 볼 수 있도록 테스트 트랜잭션 사용 안 함
+class ArticleLikeConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int TOGGLES_PER_THREAD = 50;
+
+    @Autowired
+    BlogService blogService;
+    @Autowired
+    BlogRepository blogRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ArticleLikeRepository articleLikeRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Article article;
+
+    @BeforeEach
+    void setUp() {
+        article = blogRepository.save(Article.builder().title("title").content("content").build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        articleLikeRepository.deleteAll();
+        blogRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("toggleLike(): 서로 다른 사용자 64명이 동시에 토글해도 좋아요 수가 정확하다.")
+    @Test
+    void toggleLike_manyUsers() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(userRepository.save(User.builder().email("user" + i + "@gmail.com").nickname("user" + i).build()));
+        }
+
+        List<Integer> toggles = runConcurrently(i -> {
+            int count = ThreadLocalRandom.current().nextInt(1, TOGGLES_PER_THREAD + 1);
+            for (int t = 0; t < count; t++) {
+                blogService.toggleLike(article.getId(), users.get(i).getId());
+            }
+            return count;
+        });
+
+        // 홀수 번 누른 사용자만 좋아요 상태로 남아야 함
+        long expected = toggles.stream().filter(count -> count % 2 == 1).count();
+        assertThat(countLikeRows()).isEqualTo(expected);
+        assertThat(blogService.getLikeCount(article.getId())).isEqualTo(expected);
+    }
+
+    @DisplayName("toggleLike(): 같은 사용자가 64개 요청을 동시에 보내도 좋아요 수와 좋아요 행 수가 일치한다.")
+    @Test
+    void toggleLike_sameUser() throws Exception {
+        User user = userRepository.save(User.builder().email("user@gmail.com").nickname("user").build());
+
+        runConcurrently(i -> {
+            for (int t = 0; t < TOGGLES_PER_THREAD; t++) {
+                blogService.toggleLike(article.getId(), user.getId());
+            }
+            return TOGGLES_PER_THREAD;
+        });
+
+        long rows = countLikeRows();
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(blogService.getLikeCount(article.getId())).isEqualTo(rows);
+    }
+
+    private long countLikeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_likes WHERE article_id = ?", Long.class, article.getId());
+    }
+
+    private List<Integer> runConcurrently(Toggler toggler) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return toggler.run(index);
+                }));
+            }
+            start.countDown();
+
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Toggler {
+        int run(int index) throws Exception;
+    }
+}
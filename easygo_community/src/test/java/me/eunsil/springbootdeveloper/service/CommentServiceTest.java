@@ -0,0 +1,140 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.Article;
+import me.eunsil.springbootdeveloper.domain.Comment;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.CommentResponse;
+import me.eunsil.springbootdeveloper.repository.BlogRepository;
+import me.eunsil.springbootdeveloper.repository.CommentRepository;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(CommentService.class)
+class CommentServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Autowired
+    CommentService commentService;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    BlogRepository blogRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+    Article article;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("user@gmail.com").nickname("user").build());
+        article = blogRepository.save(Article.builder().title("title").content("content").user(user).build());
+    }
+
+    @DisplayName("findCommentTree(): 원댓글을 (createdAt, id) 순으로 limit개씩 이어서 반환하고, 마지막 다음 페이지는 비어 있다.")
+    @Test
+    void findCommentTree_pageBoundaries() {
+        // id 순서와 작성 시각 순서가 다르고, 같은 시각의 원댓글이 있음
+        Comment late = comment("late", null, BASE.plusMinutes(10));
+        Comment first = comment("first", null, BASE);
+        Comment tieA = comment("tieA", null, BASE.plusMinutes(5));
+        comment("tieB", null, BASE.plusMinutes(5));
+        comment("reply", first, BASE.plusMinutes(20));
+
+        List<CommentResponse> page1 = commentService.findCommentTree(article.getId(), user.getId(), null, 2, null);
+        assertThat(page1).extracting(CommentResponse::getContent).containsExactly("first", "tieA");
+        assertThat(page1.get(0).getChildren()).extracting(CommentResponse::getContent).containsExactly("reply");
+
+        List<CommentResponse> page2 = commentService.findCommentTree(article.getId(), user.getId(), null, 2, tieA.getId());
+        assertThat(page2).extracting(CommentResponse::getContent).containsExactly("tieB", "late");
+
+        List<CommentResponse> page3 = commentService.findCommentTree(article.getId(), user.getId(), null, 2, late.getId());
+        assertThat(page3).isEmpty();
+    }
+
+    @DisplayName("findCommentTree(): 페이지로 조회해도 maxDepth까지만 포함하고 다른 스레드의 대댓글은 섞이지 않는다.")
+    @Test
+    void findCommentTree_depthLimit() {
+        Comment root1 = comment("root1", null, BASE);
+        Comment child = comment("child", root1, BASE.plusMinutes(1));
+        Comment grandChild = comment("grandChild", child, BASE.plusMinutes(2));
+        comment("greatGrandChild", grandChild, BASE.plusMinutes(3));
+        Comment root2 = comment("root2", null, BASE.plusMinutes(4));
+        comment("otherChild", root2, BASE.plusMinutes(5));
+
+        List<CommentResponse> depth1 = commentService.findCommentTree(article.getId(), user.getId(), 1, 1, null);
+        assertThat(depth1).extracting(CommentResponse::getContent).containsExactly("root1");
+        assertThat(depth1.get(0).getChildren()).extracting(CommentResponse::getContent).containsExactly("child");
+        assertThat(depth1.get(0).getChildren().get(0).getChildren()).isEmpty();
+
+        List<CommentResponse> all = commentService.findCommentTree(article.getId(), user.getId(), null, 1, null);
+        CommentResponse level2 = all.get(0).getChildren().get(0).getChildren().get(0);
+        assertThat(level2.getContent()).isEqualTo("grandChild");
+        assertThat(level2.getChildren()).extracting(CommentResponse::getContent).containsExactly("greatGrandChild");
+        assertThat(all.get(0).isMinecheck()).isTrue();
+    }
+
+    @DisplayName("findCommentTree(): after가 없으면 첫 페이지부터, limit도 없으면 전체 트리를 반환한다.")
+    @Test
+    void findCommentTree_emptyAfter() {
+        comment("first", null, BASE);
+        comment("second", null, BASE.plusMinutes(1));
+
+        assertThat(commentService.findCommentTree(article.getId(), user.getId(), null, 1, null))
+                .extracting(CommentResponse::getContent).containsExactly("first");
+        assertThat(commentService.findCommentTree(article.getId(), user.getId(), null, null, null))
+                .extracting(CommentResponse::getContent).containsExactly("first", "second");
+    }
+
+    @DisplayName("findCommentTree(): limit이 0 이하이면 예외가 발생한다.")
+    @Test
+    void findCommentTree_invalidLimit() {
+        comment("root", null, BASE);
+
+        assertThatThrownBy(() -> commentService.findCommentTree(article.getId(), user.getId(), null, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.findCommentTree(article.getId(), user.getId(), null, -1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("findCommentTree(): after가 이 게시글의 원댓글이 아니면 예외가 발생한다.")
+    @Test
+    void findCommentTree_invalidAfter() {
+        Comment root = comment("root", null, BASE);
+        Comment reply = comment("reply", root, BASE.plusMinutes(1));
+
+        assertThatThrownBy(() -> commentService.findCommentTree(article.getId(), user.getId(), null, 10, reply.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.findCommentTree(article.getId(), user.getId(), null, 10, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Comment comment(String content, Comment parent, LocalDateTime createdAt) {
+        Comment comment = commentRepository.saveAndFlush(Comment.builder()
+                .content(content).article(article).user(user).parent(parent).build());
+        jdbcTemplate.update("UPDATE comment SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), comment.getId());
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+}
@@ -0,0 +1,122 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ContentAddressedFileStorageTest {
+
+    private static final String HASH = "abcd" + "0".repeat(60);
+    private static final FileTime OLD = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+
+    @TempDir
+    Path uploadDirectory;
+
+    private FileReferenceRepository fileReferenceRepository;
+    private ImageVariantRepository imageVariantRepository;
+    private ContentAddressedFileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        fileReferenceRepository = mock(FileReferenceRepository.class);
+        imageVariantRepository = mock(ImageVariantRepository.class);
+        storage = new ContentAddressedFileStorage(fileReferenceRepository, imageVariantRepository);
+        ReflectionTestUtils.setField(storage, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(storage, "gcGrace", Duration.ofHours(1));
+    }
+
+    @DisplayName("store(): 해시 앞 4글자로 나눈 위치에 저장하고, 같은 내용은 기존 파일을 재사용한다.")
+    @Test
+    void store() throws IOException {
+        String url = storage.store(tempFile("first"), HASH, ".jpg");
+        String duplicate = storage.store(tempFile("first"), HASH, ".jpg");
+
+        assertThat(url).isEqualTo("/uploads/ab/cd/" + HASH + ".jpg");
+        assertThat(duplicate).isEqualTo(url);
+        assertThat(Files.readString(storage.resolve(url))).isEqualTo("first");
+        try (Stream<Path> rootFiles = Files.list(uploadDirectory)) {
+            assertThat(rootFiles.filter(Files::isRegularFile)).isEmpty();  // 임시 파일이 남지 않음
+        }
+    }
+
+    @DisplayName("release(): 참조가 남아 있거나 grace 기간 안의 파일은 지우지 않고, 아니면 변형본과 그 기록까지 지운다.")
+    @Test
+    void release() throws IOException {
+        String url = storage.store(tempFile("image"), HASH, ".jpg");
+        Path original = storage.resolve(url);
+        Path thumbnail = Files.writeString(original.resolveSibling(HASH + "_thumb.jpg"), "thumb");
+
+        assertThat(storage.release(url)).isFalse();  // 방금 저장됨
+
+        Files.setLastModifiedTime(original, OLD);
+        given(fileReferenceRepository.countReferences(url)).willReturn(1L);
+        assertThat(storage.release(url)).isFalse();  // 다른 게시글이 사용 중
+        verify(imageVariantRepository, never()).deleteAllByIdInBatch(any());
+
+        given(fileReferenceRepository.countReferences(url)).willReturn(0L);
+        assertThat(storage.release(url)).isTrue();
+        assertThat(Files.exists(original)).isFalse();
+        assertThat(Files.exists(thumbnail)).isFalse();
+        verify(imageVariantRepository).deleteAllByIdInBatch(List.of(url));
+    }
+
+    @DisplayName("collectGarbage(): 참조되지 않는 오래된 파일과 원본이 없는 변형본만 지운다.")
+    @Test
+    void collectGarbage() throws IOException {
+        String referenced = storage.store(tempFile("a"), "1111" + "0".repeat(60), ".png");
+        String orphan = storage.store(tempFile("b"), "2222" + "0".repeat(60), ".png");
+        String recent = storage.store(tempFile("c"), "3333" + "0".repeat(60), ".png");
+        Files.setLastModifiedTime(storage.resolve(referenced), OLD);
+        Files.setLastModifiedTime(storage.resolve(orphan), OLD);
+        Path legacyVariant = Files.writeString(uploadDirectory.resolve("legacy_thumb.jpg"), "thumb");
+        Path legacyOriginal = Files.writeString(uploadDirectory.resolve("4f1c2d3e_image (3).png"), "legacy");
+        Files.setLastModifiedTime(legacyOriginal, OLD);
+        given(fileReferenceRepository.countReferences("/uploads/4f1c2d3e_image (3).png")).willReturn(1L);
+        given(fileReferenceRepository.findReferenced(anyCollection())).willReturn(Set.of(referenced));
+        given(fileReferenceRepository.countReferences(orphan)).willReturn(0L);
+
+        int deleted = storage.collectGarbage();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(Files.exists(storage.resolve(referenced))).isTrue();
+        assertThat(Files.exists(storage.resolve(orphan))).isFalse();
+        assertThat(Files.exists(storage.resolve(recent))).isTrue();
+        assertThat(Files.exists(legacyVariant)).isFalse();
+        assertThat(Files.exists(legacyOriginal)).isTrue();  // "_"가 들어간 예전 원본은 변형본으로 보지 않음
+    }
+
+    @DisplayName("resolve(): 저장소 밖을 가리키는 URL은 거부한다.")
+    @Test
+    void resolve_outsideStorage() {
+        assertThat(storage.resolve("/uploads/legacy.jpg")).isEqualTo(uploadDirectory.toAbsolutePath().normalize().resolve("legacy.jpg"));
+        assertThatThrownBy(() -> storage.resolve("/uploads/../application.yml")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("https://example.com/a.jpg")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path tempFile(String content) throws IOException {
+        return Files.writeString(storage.createTempFile(), content);
+    }
+}
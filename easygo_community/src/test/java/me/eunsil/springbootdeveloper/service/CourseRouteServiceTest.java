@@ -0,0 +1,183 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import me.eunsil.springbootdeveloper.repository.CourseRouteRepository;
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourseRouteServiceTest {
+
+    @DisplayName("build(): 일자별 구간 거리, 거리 행렬, 영역을 계산하고 좌표가 빠진 스팟이 있으면 complete가 false다.")
+    @Test
+    void build() {
+        Course course = course(List.of(
+                spot("A", "a", 37.50, 127.00, "오전"),
+                spot("B", "b", 37.55, 127.05, "오후"),
+                spot("없음", "c", null, null, null),
+                spot("C", "d", 37.60, 126.95, "저녁")));
+        course.setVersion(3L);
+
+        CourseRoute route = CourseRouteService.build(course);
+
+        CourseRoute.DayRoute day = route.getDays().get(0);
+        assertThat(day.getPoints()).extracting(CourseRoute.RoutePoint::getSpotIndex).containsExactly(0, 1, 3);
+        assertThat(day.getDistanceMatrixKm()).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                CourseRoute.RoutePoint from = day.getPoints().get(i);
+                CourseRoute.RoutePoint to = day.getPoints().get(j);
+                assertThat(day.distanceBetween(i, j))
+                        .isCloseTo(GeoUtil.distanceKm(from.getLat(), from.getLng(), to.getLat(), to.getLng()), within(1e-9));
+            }
+        }
+        assertThat(day.getLegDistancesKm()).containsExactly(day.distanceBetween(0, 1), day.distanceBetween(1, 2));
+        assertThat(route.getDistanceKm()).isCloseTo(day.distanceBetween(0, 1) + day.distanceBetween(1, 2), within(1e-9));
+        assertThat(route.getBounds()).isEqualTo(new CourseRoute.BoundingBox(37.50, 126.95, 37.60, 127.05));
+        assertThat(route.getCourseVersion()).isEqualTo(3L);
+        assertThat(route.isComplete()).isFalse();
+    }
+
+    @DisplayName("build(): 하루 스팟이 한도까지면 거리 행렬을 저장하고, 넘으면 행렬 없이 저장하며 거리는 그때 계산한다.")
+    @Test
+    void build_matrixMaxSpots() {
+        List<Course.Spot> spots = List.of(
+                spot("A", "a", 37.50, 127.00, null),
+                spot("B", "b", 37.55, 127.05, null),
+                spot("C", "c", 37.60, 126.95, null),
+                spot("D", "d", 37.45, 127.10, null));
+
+        CourseRoute.DayRoute atLimit = CourseRouteService.build(course(spots.subList(0, 3)), Set.of(), 3).getDays().get(0);
+        CourseRoute.DayRoute overLimit = CourseRouteService.build(course(spots), Set.of(), 3).getDays().get(0);
+
+        assertThat(atLimit.getDistanceMatrixKm()).hasSize(3);
+        assertThat(overLimit.getDistanceMatrixKm()).isNull();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                CourseRoute.RoutePoint from = overLimit.getPoints().get(i);
+                CourseRoute.RoutePoint to = overLimit.getPoints().get(j);
+                assertThat(overLimit.distanceBetween(i, j))
+                        .isCloseTo(GeoUtil.distanceKm(from.getLat(), from.getLng(), to.getLat(), to.getLng()), within(1e-9));
+            }
+        }
+        assertThat(overLimit.getLegDistancesKm())
+                .containsExactly(overLimit.distanceBetween(0, 1), overLimit.distanceBetween(1, 2), overLimit.distanceBetween(2, 3));
+        assertThat(overLimit.getDistanceKm()).isCloseTo(
+                overLimit.distanceBetween(0, 1) + overLimit.distanceBetween(1, 2) + overLimit.distanceBetween(2, 3), within(1e-9));
+    }
+
+    @DisplayName("spotsHash(): 경로에 영향 없는 값(spotId, 설명)은 무시하고, 순서나 좌표가 바뀌면 달라진다.")
+    @Test
+    void spotsHash() {
+        Course.Spot a = spot("A", "a", 37.50, 127.00, "오전");
+        Course.Spot b = spot("B", "b", 37.55, 127.05, "오후");
+        String hash = CourseRouteService.spotsHash(course(List.of(a, b)).getDays());
+
+        Course.Spot renamedId = spot("A", "a", 37.50, 127.00, "오전");
+        renamedId.setSpotId("other");
+        renamedId.setDescription("설명");
+        assertThat(CourseRouteService.spotsHash(course(List.of(renamedId, b)).getDays())).isEqualTo(hash);
+        assertThat(CourseRouteService.spotsHash(course(List.of(b, a)).getDays())).isNotEqualTo(hash);
+        assertThat(CourseRouteService.spotsHash(course(List.of(a, spot("B", "b", 37.56, 127.05, "오후"))).getDays()))
+                .isNotEqualTo(hash);
+        assertThat(CourseRouteService.spotsHash(course(List.of(a), List.of(b)).getDays())).isNotEqualTo(hash);
+    }
+
+    @DisplayName("refresh(): 요약 저장에 실패하면 이전 요약을 지워서 다음 조회 때 다시 계산되게 한다.")
+    @Test
+    void refresh_failure() {
+        CourseRouteRepository repository = mock(CourseRouteRepository.class);
+        when(repository.saveIfNewer(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        Course course = course(List.of(spot("A", "a", 37.50, 127.00, null)));
+        course.setId("c0");
+
+        CourseRoute route = new CourseRouteService(repository).refresh(course);
+
+        assertThat(route.getCourseId()).isEqualTo("c0");
+        verify(repository).deleteById("c0");
+    }
+
+    @DisplayName("refresh(): 다시 계산한 요약이 저장된 요약과 버전, 스팟 내용이 같으면 저장하지 않는다.")
+    @Test
+    void refresh_unchanged() {
+        CourseRouteRepository repository = mock(CourseRouteRepository.class);
+        Course course = course(List.of(spot("A", "a", 37.50, 127.00, null), spot("없음", "b", null, null, null)));
+        course.setId("c0");
+        CourseRouteService service = new CourseRouteService(repository);
+        CourseRoute incomplete = CourseRouteService.build(course);
+
+        CourseRoute resolved = service.refresh(course, Set.of("b"), incomplete);
+        assertThat(service.refresh(course, Set.of("b"), resolved)).isSameAs(resolved);
+
+        assertThat(resolved.isComplete()).isTrue();
+        assertThat(resolved.getSpotsHash()).isNotEqualTo(incomplete.getSpotsHash());
+        verify(repository, times(1)).saveIfNewer(any());
+    }
+
+    @DisplayName("refreshAsync(): 기다리는 동안 같은 코스에 쓰기가 여러 번 오면 가장 새 버전으로 한 번만 계산한다.")
+    @Test
+    void refreshAsync_coalesces() {
+        CourseRouteRepository repository = mock(CourseRouteRepository.class);
+        CourseRouteService service = new CourseRouteService(repository);
+        ReflectionTestUtils.setField(service, "refreshDelay", Duration.ofMillis(100));
+        service.init();
+        try {
+            // 늦게 도착한 이전 버전(3, 4) 포함
+            for (long version : new long[]{1, 2, 5, 3, 4}) {
+                Course course = course(List.of(spot("A", "a", 37.50, 127.00 + version / 100.0, null)));
+                course.setId("c0");
+                course.setVersion(version);
+                service.refreshAsync(course);
+            }
+
+            ArgumentCaptor<CourseRoute> saved = ArgumentCaptor.forClass(CourseRoute.class);
+            verify(repository, timeout(2000)).saveIfNewer(saved.capture());
+            assertThat(saved.getValue().getCourseVersion()).isEqualTo(5L);
+            verify(repository, after(300).times(1)).saveIfNewer(any());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @SafeVarargs
+    private static Course course(List<Course.Spot>... daySpots) {
+        Course course = new Course();
+        course.setDays(Arrays.stream(daySpots).map(spots -> {
+            Course.Day day = new Course.Day();
+            day.setSpots(new ArrayList<>(spots));
+            return day;
+        }).toList());
+        return course;
+    }
+
+    private static Course.Spot spot(String name, String address, Double lat, Double lng, String time) {
+        Course.Spot spot = new Course.Spot();
+        spot.setName(name);
+        spot.setAddress(address);
+        spot.setTime(time);
+        if (lat != null) {
+            spot.setCoordinates(new Course.Coordinates(lat, lng));
+        }
+        return spot;
+    }
+}
@@ -0,0 +1,141 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.CoursePatchRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSpotRequest;
+import me.eunsil.springbootdeveloper.dto.CourseSummary;
+import me.eunsil.springbootdeveloper.dto.CourseSummaryResponse;
+import me.eunsil.springbootdeveloper.exception.UnauthorizedException;
+import me.eunsil.springbootdeveloper.repository.CourseRepository;
+import me.eunsil.springbootdeveloper.util.CursorUtil;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourseServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 9, 30);
+
+    private CourseRepository courseRepository;
+    private CourseRouteService courseRouteService;
+    private CourseService courseService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        courseRouteService = mock(CourseRouteService.class);
+        courseService = new CourseService(courseRepository, courseRouteService);
+    }
+
+    @DisplayName("getUserCourseSummaries(): size + 1개를 조회해서 다음 페이지가 있으면 마지막 코스 기준 커서를 내려준다.")
+    @Test
+    void getUserCourseSummaries() {
+        when(courseRepository.findSummaries(eq("user@easygo.com"), isNull(), eq(3))).thenReturn(summaries(3));
+
+        CourseSummaryResponse response = courseService.getUserCourseSummaries("user@easygo.com", null, 2);
+
+        assertThat(response.getCourses()).extracting(CourseSummary::getId).containsExactly("c0", "c1");
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(CursorUtil.decodeTimed(response.getNextCursor()))
+                .isEqualTo(new CursorUtil.TimeCursor(CREATED_AT.minusMinutes(1), "c1"));
+
+        // 받은 커서로 다음 페이지 요청
+        when(courseRepository.findSummaries("user@easygo.com", CursorUtil.decodeTimed(response.getNextCursor()), 3))
+                .thenReturn(summaries(1));
+        CourseSummaryResponse last = courseService.getUserCourseSummaries("user@easygo.com", response.getNextCursor(), 2);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @DisplayName("getUserCourseSummaries(): size가 없거나 너무 크면 기본값/최댓값을 쓰고, 잘못된 커서는 거부한다.")
+    @Test
+    void getUserCourseSummaries_sizeAndCursor() {
+        when(courseRepository.findSummaries(eq("user@easygo.com"), isNull(), eq(101))).thenReturn(List.of());
+
+        courseService.getUserCourseSummaries("user@easygo.com", null, 1000);
+
+        verify(courseRepository).findSummaries("user@easygo.com", null, 101);
+        assertThatThrownBy(() -> courseService.getUserCourseSummaries("user@easygo.com", "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("getUserCourse(): 다른 사용자의 코스는 조회할 수 없다.")
+    @Test
+    void getUserCourse_otherUser() {
+        Course course = new Course();
+        course.setId("c0");
+        course.setUserId("owner@easygo.com");
+        when(courseRepository.findById("c0")).thenReturn(Optional.of(course));
+
+        assertThat(courseService.getUserCourse("c0", "owner@easygo.com")).isSameAs(course);
+        assertThatThrownBy(() -> courseService.getUserCourse("c0", "other@easygo.com"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @DisplayName("patchCourse(): 조건부 수정이 적용되지 않으면 다시 읽어서 권한 없음/버전 충돌을 구분한다.")
+    @Test
+    void patchCourse_rejected() {
+        Course course = new Course();
+        course.setId("c0");
+        course.setUserId("owner@easygo.com");
+        course.setVersion(5L);
+        when(courseRepository.findById("c0")).thenReturn(Optional.of(course));
+        when(courseRepository.updateIfOwned(anyString(), anyString(), any(), any(), any())).thenReturn(null);
+
+        assertThatThrownBy(() -> courseService.patchCourse("c0", "owner@easygo.com", new CoursePatchRequest(4L, "새 이름", null)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> courseService.patchCourse("c0", "other@easygo.com", new CoursePatchRequest(5L, "새 이름", null)))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> courseService.patchCourse("c0", "owner@easygo.com", new CoursePatchRequest(5L, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("updateSpot(): 스팟 하나만 spotId로 찾아서 $set하고, 소유자/버전은 같은 요청의 조건으로 확인한다.")
+    @Test
+    void updateSpot() {
+        Course.Spot spot = new Course.Spot();
+        spot.setName("경복궁");
+        Course updated = new Course();
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(courseRepository.updateIfOwned(eq("c0"), eq("owner@easygo.com"), eq(3L), any(), update.capture())).thenReturn(updated);
+
+        assertThat(courseService.updateSpot("c0", "owner@easygo.com", "s1", new CourseSpotRequest(3L, null, spot))).isSameAs(updated);
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set.get("days.$[].spots.$[s]")).isSameAs(spot);
+        assertThat(spot.getSpotId()).isEqualTo("s1");
+        assertThat(update.getValue().getArrayFilters()).extracting(filter -> filter.asDocument())
+                .containsExactly(new Document("s.spotId", "s1"));
+        verify(courseRepository, never()).findById(anyString());
+        verify(courseRouteService).refreshAsync(updated);
+    }
+
+    private static List<CourseSummary> summaries(int count) {
+        List<CourseSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            summaries.add(new CourseSummary("c" + i, "코스 " + i, "서울", List.of(), "2024-05-01", "2024-05-02", 2,
+                    CREATED_AT.minusMinutes(i), null));
+        }
+        return summaries;
+    }
+}
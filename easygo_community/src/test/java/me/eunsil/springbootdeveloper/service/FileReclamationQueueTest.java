@@ -0,0 +1,97 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.PendingFileDeletion;
+import me.eunsil.springbootdeveloper.repository.PendingFileDeletionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "file.reclaim.retry-after=0s"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(FileReclamationQueue.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋/롤백 후 동작을 보기 위해 테스트 트랜잭션 사용 안 함
+class FileReclamationQueueTest {
+
+    @Autowired
+    FileReclamationQueue fileReclamationQueue;
+    @Autowired
+    PendingFileDeletionRepository pendingFileDeletionRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @MockBean
+    FileStorage fileStorage;
+
+    @AfterEach
+    void cleanUp() {
+        pendingFileDeletionRepository.deleteAll();
+    }
+
+    @DisplayName("enqueue(): 커밋된 뒤에 백그라운드에서 파일을 반납하고 요청 행을 지운다.")
+    @Test
+    void enqueue_afterCommit() {
+        given(fileStorage.release(anyString())).willReturn(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            fileReclamationQueue.enqueue(List.of("/uploads/a.png", "/uploads/b.png", "/uploads/a.png"));
+            verify(fileStorage, never()).release(anyString());  // 커밋 전에는 지우지 않음
+        });
+
+        verify(fileStorage, timeout(2000)).release("/uploads/a.png");
+        verify(fileStorage, timeout(2000)).release("/uploads/b.png");
+        awaitEmptyQueue();
+    }
+
+    @DisplayName("enqueue(): 트랜잭션이 롤백되면 삭제 요청도 없어지고 파일은 그대로 둔다.")
+    @Test
+    void enqueue_rollback() throws InterruptedException {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            fileReclamationQueue.enqueue(List.of("/uploads/a.png"));
+            status.setRollbackOnly();
+        });
+
+        Thread.sleep(200);
+        verify(fileStorage, never()).release(anyString());
+        assertThat(pendingFileDeletionRepository.count()).isZero();
+    }
+
+    @DisplayName("retryPending(): 커밋 후 처리가 누락된 요청을 다시 처리한다.")
+    @Test
+    void retryPending() {
+        pendingFileDeletionRepository.save(new PendingFileDeletion("/uploads/left.png"));
+
+        fileReclamationQueue.retryPending();
+
+        verify(fileStorage).release("/uploads/left.png");
+        assertThat(pendingFileDeletionRepository.count()).isZero();
+    }
+
+    private void awaitEmptyQueue() {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (pendingFileDeletionRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(pendingFileDeletionRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,133 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.dto.FileUploadResult;
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FileUploadServiceTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+    @TempDir
+    Path uploadDirectory;
+
+    private ContentAddressedFileStorage storage;
+    private FileUploadService fileUploadService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ContentAddressedFileStorage(mock(FileReferenceRepository.class), mock(ImageVariantRepository.class));
+        ReflectionTestUtils.setField(storage, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(storage, "gcGrace", Duration.ofHours(1));
+        fileUploadService = new FileUploadService(storage);
+        ReflectionTestUtils.setField(fileUploadService, "maxFileSize", DataSize.ofKilobytes(64));
+        ReflectionTestUtils.setField(fileUploadService, "maxConcurrency", 4);
+        fileUploadService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileUploadService.shutdown();
+    }
+
+    @DisplayName("store(): 여러 파일을 입력 순서대로 저장하고, 확장자는 실제 형식 기준으로 붙인다.")
+    @Test
+    void store() throws IOException {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            byte[] header = i % 2 == 0 ? PNG_HEADER : JPEG_HEADER;
+            files.add(new MockMultipartFile("files", "photo" + i + ".gif", "image/gif", image(header, 32 * 1024 + i)));
+        }
+
+        List<FileUploadResult> results = fileUploadService.store(files);
+
+        assertThat(results).hasSize(10).allMatch(FileUploadResult::isStored);
+        assertThat(results).extracting(FileUploadResult::getOriginalFilename)
+                .containsExactly("photo0.gif", "photo1.gif", "photo2.gif", "photo3.gif", "photo4.gif",
+                        "photo5.gif", "photo6.gif", "photo7.gif", "photo8.gif", "photo9.gif");
+        assertThat(results.get(0).getUrl()).startsWith("/uploads/").endsWith(".png");
+        assertThat(results.get(1).getContentType()).isEqualTo("image/jpeg");
+
+        Path saved = storage.resolve(results.get(3).getUrl());
+        assertThat(Files.readAllBytes(saved)).isEqualTo(files.get(3).getBytes());
+        try (Stream<Path> leftovers = Files.walk(uploadDirectory)) {
+            assertThat(leftovers.filter(path -> path.toString().endsWith(".part"))).isEmpty();
+        }
+    }
+
+    @DisplayName("store(): 같은 내용의 파일은 한 번만 저장하고 같은 URL을 돌려준다.")
+    @Test
+    void store_duplicate() throws IOException {
+        byte[] bytes = image(PNG_HEADER, 16 * 1024);
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "a.png", "image/png", bytes),
+                new MockMultipartFile("files", "b.png", "image/png", bytes));
+
+        List<FileUploadResult> results = fileUploadService.store(files);
+
+        assertThat(results).allMatch(FileUploadResult::isStored);
+        assertThat(results.get(0).getUrl()).isEqualTo(results.get(1).getUrl());
+        try (Stream<Path> stored = Files.walk(uploadDirectory)) {
+            assertThat(stored.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @DisplayName("store(): Content-Type이 image여도 매직 바이트가 이미지가 아니면 거부한다.")
+    @Test
+    void store_notImage() throws IOException {
+        MockMultipartFile fake = new MockMultipartFile("files", "evil.png", "image/png", "<script>alert(1)</script>".getBytes());
+
+        List<FileUploadResult> results = fileUploadService.store(List.of(fake));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.isStored()).isFalse();
+            assertThat(result.getError()).isEqualTo("이미지 파일만 업로드 가능합니다.");
+        });
+        try (Stream<Path> files = Files.walk(uploadDirectory)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @DisplayName("store(): 크기 제한을 넘는 파일은 거부하고 임시 파일도 남기지 않는다.")
+    @Test
+    void store_tooLarge() throws IOException {
+        MockMultipartFile large = new MockMultipartFile("files", "large.png", "image/png", image(PNG_HEADER, 65 * 1024));
+
+        List<FileUploadResult> results = fileUploadService.store(List.of(large));
+
+        assertThat(results.get(0).isStored()).isFalse();
+        try (Stream<Path> files = Files.walk(uploadDirectory)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private static byte[] image(byte[] header, int size) {
+        byte[] bytes = Arrays.copyOf(header, size);
+        for (int i = header.length; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,169 @@
+package me.eunsil.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.GeocodeCacheEntry;
+import me.eunsil.springbootdeveloper.repository.GeocodeCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GeocodeCacheTest {
+
+    private GeocodeCacheRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private GeocodeCache geocodeCache;
+    private final AtomicInteger apiCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GeocodeCacheRepository.class);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        meterRegistry = new SimpleMeterRegistry();
+        geocodeCache = new GeocodeCache(repository, meterRegistry);
+        ReflectionTestUtils.setField(geocodeCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(geocodeCache, "ttl", Duration.ofDays(30));
+        ReflectionTestUtils.setField(geocodeCache, "negativeTtl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(geocodeCache, "lookupConcurrency", 2);
+        geocodeCache.init();
+    }
+
+    private Function<String, CompletableFuture<Optional<Course.Coordinates>>> api(Course.Coordinates result) {
+        return address -> {
+            apiCalls.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.ofNullable(result));
+        };
+    }
+
+    @DisplayName("getAsync(): 정규화한 주소가 같으면 API는 한 번만 호출하고 Mongo에도 저장한다.")
+    @Test
+    void getAsync_memoryTier() {
+        Course.Coordinates coordinates = new Course.Coordinates(37.57, 126.97);
+
+        geocodeCache.getAsync("서울 종로구  사직로 161", api(coordinates)).join();
+        Optional<Course.Coordinates> second = geocodeCache.getAsync(" 서울 종로구 사직로 161 ", api(coordinates)).join();
+
+        assertThat(second).get().extracting(Course.Coordinates::getLat).isEqualTo(37.57);
+        assertThat(apiCalls.get()).isEqualTo(1);
+        verify(repository, times(1)).save(any(GeocodeCacheEntry.class));
+        assertThat(meterRegistry.counter("geocode.cache.lookups", "tier", "memory").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("geocode.cache.lookups", "tier", "api").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("getAsync(): 메모리에 없으면 Mongo에 저장된 유효한 결과를 사용한다.")
+    @Test
+    void getAsync_persistentTier() {
+        Instant now = Instant.now();
+        GeocodeCacheEntry stored = new GeocodeCacheEntry("부산 해운대구 우동",
+                new Course.Coordinates(35.16, 129.16), now, now.plus(Duration.ofDays(1)));
+        when(repository.findById("부산 해운대구 우동")).thenReturn(Optional.of(stored));
+
+        Optional<Course.Coordinates> result = geocodeCache.getAsync("부산 해운대구 우동", api(null)).join();
+
+        assertThat(result).get().extracting(Course.Coordinates::getLng).isEqualTo(129.16);
+        assertThat(apiCalls.get()).isZero();
+        verify(repository, never()).save(any());
+    }
+
+    @DisplayName("getAsync(): 주소를 찾을 수 없는 결과는 짧은 TTL로 캐시한다.")
+    @Test
+    void getAsync_negative() {
+        assertThat(geocodeCache.getAsync("없는 주소", api(null)).join()).isEmpty();
+        assertThat(geocodeCache.getAsync("없는 주소", api(null)).join()).isEmpty();
+
+        assertThat(apiCalls.get()).isEqualTo(1);
+        ArgumentCaptor<GeocodeCacheEntry> saved = ArgumentCaptor.forClass(GeocodeCacheEntry.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().isFound()).isFalse();
+        assertThat(saved.getValue().getExpiresAt()).isBefore(Instant.now().plus(Duration.ofHours(2)));
+    }
+
+    @DisplayName("getAsync(): API 호출이 실패하면 캐시하지 않는다.")
+    @Test
+    void getAsync_failureNotCached() {
+        CompletableFuture<Optional<Course.Coordinates>> failed = geocodeCache.getAsync("서울 중구 세종대로 110",
+                address -> CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+
+        geocodeCache.getAsync("서울 중구 세종대로 110", api(new Course.Coordinates(37.56, 126.97))).join();
+
+        assertThat(apiCalls.get()).isEqualTo(1);
+        verify(repository, times(1)).save(any());
+    }
+
+    @DisplayName("getAsync(): Mongo 조회는 별도 스레드에서 실행되어 호출한 스레드를 막지 않는다.")
+    @Test
+    void getAsync_persistentLookupDoesNotBlockCaller() throws InterruptedException {
+        Instant now = Instant.now();
+        GeocodeCacheEntry stored = new GeocodeCacheEntry("제주 제주시 연동",
+                new Course.Coordinates(33.49, 126.49), now, now.plus(Duration.ofDays(1)));
+        CountDownLatch mongoResponds = new CountDownLatch(1);
+        when(repository.findById("제주 제주시 연동")).thenAnswer(invocation -> {
+            mongoResponds.await(5, TimeUnit.SECONDS);
+            return Optional.of(stored);
+        });
+
+        CompletableFuture<Optional<Course.Coordinates>> result = geocodeCache.getAsync("제주 제주시 연동", api(null));
+
+        assertThat(result).isNotDone();
+        mongoResponds.countDown();
+        assertThat(result.join()).get().extracting(Course.Coordinates::getLat).isEqualTo(33.49);
+        assertThat(apiCalls.get()).isZero();
+    }
+
+    @DisplayName("getAsync(): 가상 스레드 모드에서도 동시에 실행하는 Mongo 조회는 lookupConcurrency개까지다.")
+    @Test
+    void getAsync_virtualThreadsLimitConcurrency() throws InterruptedException {
+        geocodeCache.shutdown();
+        ReflectionTestUtils.setField(geocodeCache, "virtualThreads", true);
+        geocodeCache.init();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch mongoResponds = new CountDownLatch(1);
+        when(repository.findById(anyString())).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().isVirtual()).isTrue();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            mongoResponds.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return Optional.empty();
+        });
+
+        List<CompletableFuture<Optional<Course.Coordinates>>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(geocodeCache.getAsync("주소 " + i, api(null)));
+        }
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(running.get()).isEqualTo(2);
+        mongoResponds.countDown();
+        results.forEach(CompletableFuture::join);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(apiCalls.get()).isEqualTo(6);
+    }
+}
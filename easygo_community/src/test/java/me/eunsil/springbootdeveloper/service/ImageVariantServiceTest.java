@@ -0,0 +1,127 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.ImageVariant;
+import me.eunsil.springbootdeveloper.dto.ImageVariants;
+import me.eunsil.springbootdeveloper.repository.FileReferenceRepository;
+import me.eunsil.springbootdeveloper.repository.ImageVariantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path uploadDirectory;
+
+    private final Map<String, ImageVariant> recorded = new ConcurrentHashMap<>();
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        ContentAddressedFileStorage storage = new ContentAddressedFileStorage(mock(FileReferenceRepository.class), mock(ImageVariantRepository.class));
+        ReflectionTestUtils.setField(storage, "uploadDirectory", uploadDirectory.toString());
+        ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+        when(imageVariantRepository.save(any())).thenAnswer(invocation -> {
+            ImageVariant variant = invocation.getArgument(0);
+            recorded.put(variant.getFileUrl(), variant);
+            return variant;
+        });
+        when(imageVariantRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Collection<String> fileUrls = invocation.getArgument(0);
+            return fileUrls.stream().map(recorded::get).filter(variant -> variant != null).toList();
+        });
+        imageVariantService = new ImageVariantService(storage, imageVariantRepository);
+        ReflectionTestUtils.setField(imageVariantService, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(imageVariantService, "maxConcurrency", 1);
+        imageVariantService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @DisplayName("generate(): 큰 이미지는 썸네일과 중간 크기 JPEG를 만들고 비율을 유지한다.")
+    @Test
+    void generate() throws IOException {
+        writeImage("photo.jpg", 2000, 1000, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        imageVariantService.generate("/uploads/photo.jpg");
+
+        ImageVariants variants = imageVariantService.variantsOf("/uploads/photo.jpg");
+        assertThat(variants.getOriginal()).isEqualTo("/uploads/photo.jpg");
+        assertThat(variants.getThumbnail()).isEqualTo("/uploads/photo_thumb.jpg");
+        assertThat(variants.getMedium()).isEqualTo("/uploads/photo_medium.jpg");
+
+        BufferedImage thumbnail = ImageIO.read(uploadDirectory.resolve("photo_thumb.jpg").toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        assertThat(Files.size(uploadDirectory.resolve("photo_thumb.jpg")))
+                .isLessThan(Files.size(uploadDirectory.resolve("photo.jpg")));
+    }
+
+    @DisplayName("generate(): 투명도가 있는 이미지는 PNG로, 목표보다 작은 크기는 만들지 않는다.")
+    @Test
+    void generate_alphaAndSmall() throws IOException {
+        writeImage("logo.png", 800, 400, BufferedImage.TYPE_INT_ARGB, "png");
+
+        imageVariantService.generate("/uploads/logo.png");
+
+        ImageVariants variants = imageVariantService.variantsOf("/uploads/logo.png");
+        assertThat(variants.getThumbnail()).isEqualTo("/uploads/logo_thumb.png");
+        assertThat(variants.getMedium()).isEqualTo("/uploads/logo.png");  // 원본이 1280px보다 작음
+    }
+
+    @DisplayName("variantsOf(): 생성 때 기록한 URL만 사용하고, 기록이 없으면 원본 URL을 반환한다 (파일 시스템 확인 없음).")
+    @Test
+    void variantsOf_usesRecordedVariants() throws IOException {
+        writeImage("photo.jpg", 2000, 1000, BufferedImage.TYPE_INT_RGB, "jpeg");
+        writeImage("icon.png", 100, 100, BufferedImage.TYPE_INT_RGB, "png");
+        Files.write(uploadDirectory.resolve("image.webp"), new byte[]{1, 2, 3});
+        imageVariantService.generate("/uploads/photo.jpg");
+        imageVariantService.generate("/uploads/icon.png");
+        imageVariantService.generate("/uploads/image.webp");
+
+        // 기록 이후에 변형본 파일이 생기거나 없어져도 조회 결과는 기록을 따름
+        Files.delete(uploadDirectory.resolve("photo_thumb.jpg"));
+        writeImage("pending.jpg", 2000, 1000, BufferedImage.TYPE_INT_RGB, "jpeg");
+        writeImage("pending_thumb.jpg", 320, 160, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        List<ImageVariants> variants = imageVariantService.variantsOf(
+                List.of("/uploads/pending.jpg", "/uploads/photo.jpg", "/uploads/icon.png", "/uploads/image.webp"));
+
+        assertThat(variants).extracting(ImageVariants::getOriginal)
+                .containsExactly("/uploads/pending.jpg", "/uploads/photo.jpg", "/uploads/icon.png", "/uploads/image.webp");
+        assertThat(variants).extracting(ImageVariants::getThumbnail)
+                .containsExactly("/uploads/pending.jpg", "/uploads/photo_thumb.jpg", "/uploads/icon.png", "/uploads/image.webp");
+    }
+
+    private void writeImage(String name, int width, int height, int type, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 7) ^ (y * 13) | (type == BufferedImage.TYPE_INT_ARGB ? (x % 256) << 24 : 0));
+            }
+        }
+        ImageIO.write(image, format, uploadDirectory.resolve(name).toFile());
+    }
+}
@@ -0,0 +1,155 @@
+package me.eunsil.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.SpotCoordinate;
+import me.eunsil.springbootdeveloper.exception.ExternalApiException;
+import me.eunsil.springbootdeveloper.repository.GeocodeCacheRepository;
+import me.eunsil.springbootdeveloper.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로컬 스텁 HTTP 서버로 Kakao API의 일시 오류/장애 상황을 흉내 내서 재시도와 서킷 브레이커 검증
+class KakaoMapServiceTest {
+
+    private static final String FOUND = "{\"documents\":[{\"x\":\"126.97\",\"y\":\"37.57\"}]}";
+
+    private HttpServer kakaoStub;
+    // 스텁이 차례대로 돌려줄 상태 코드. 비면 200
+    private final Deque<Integer> statuses = new ArrayDeque<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private KakaoMapService kakaoMapService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakaoStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        kakaoStub.createContext("/v2/local/search/address.json", exchange -> {
+            requests.incrementAndGet();
+            Integer status;
+            synchronized (statuses) {
+                status = statuses.poll();
+            }
+            byte[] body = (status == null ? FOUND : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        kakaoStub.start();
+
+        GeocodeCacheRepository repository = mock(GeocodeCacheRepository.class);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        GeocodeCache geocodeCache = new GeocodeCache(repository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(geocodeCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(geocodeCache, "ttl", Duration.ofDays(1));
+        ReflectionTestUtils.setField(geocodeCache, "negativeTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(geocodeCache, "lookupConcurrency", 2);
+        geocodeCache.init();
+
+        meterRegistry = new SimpleMeterRegistry();
+        kakaoMapService = new KakaoMapService(HttpClient.newHttpClient(), new ObjectMapper(), geocodeCache, meterRegistry);
+        ReflectionTestUtils.setField(kakaoMapService, "kakaoApiKey", "test-key");
+        ReflectionTestUtils.setField(kakaoMapService, "kakaoApiUrl", "http://127.0.0.1:" + kakaoStub.getAddress().getPort());
+        ReflectionTestUtils.setField(kakaoMapService, "requestTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(kakaoMapService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(kakaoMapService, "retryBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(kakaoMapService, "failureThreshold", 3);
+        ReflectionTestUtils.setField(kakaoMapService, "openDuration", Duration.ofMinutes(1));
+        kakaoMapService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStub.stop(0);
+    }
+
+    @DisplayName("getCoordinatesAsync(): 5xx/429 응답은 재시도해서 성공한 결과를 돌려준다.")
+    @Test
+    void getCoordinatesAsync_retry() {
+        statuses.add(503);
+        statuses.add(429);
+        Course.Spot spot = new Course.Spot();
+        spot.setName("경복궁");
+        spot.setAddress("서울 종로구 사직로 161");
+
+        CompletableFuture<SpotCoordinate> future = kakaoMapService.getCoordinatesAsync(spot);
+
+        assertThat(future.join().getLatitude()).isEqualTo(37.57);
+        assertThat(spot.getCoordinates()).isNotNull();
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(kakaoMapService.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        // 시도마다 결과별로 기록
+        assertThat(meterRegistry.get("kakao.api.requests").tag("outcome", "SERVER_ERROR").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("kakao.api.requests").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("geocode(): 4xx 응답은 재시도하지 않는다.")
+    @Test
+    void geocode_clientError() {
+        statuses.add(401);
+
+        assertThatThrownBy(() -> kakaoMapService.geocode("서울 종로구 사직로 161"))
+                .isInstanceOf(ExternalApiException.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @DisplayName("geocode(): 연속 실패가 쌓이면 서킷이 열려서 API를 더 호출하지 않는다.")
+    @Test
+    void geocode_circuitOpen() {
+        for (int i = 0; i < 3; i++) {
+            statuses.add(500);
+        }
+
+        assertThatThrownBy(() -> kakaoMapService.geocode("서울 종로구 사직로 161"))
+                .isInstanceOf(ExternalApiException.class);
+        assertThat(kakaoMapService.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> kakaoMapService.geocode("서울 중구 세종대로 110"))
+                .isInstanceOf(ExternalApiException.class)
+                .hasMessageContaining("circuit is open");
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("kakao.api.circuit.rejections").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kakao.api.circuit.state").gauge().value()).isEqualTo(2);
+    }
+
+    @DisplayName("geocode(): 4xx 응답은 성공으로 세지 않아서 연속 실패 수를 초기화하지 않는다.")
+    @Test
+    void geocode_clientErrorDoesNotResetFailures() {
+        ReflectionTestUtils.setField(kakaoMapService, "maxAttempts", 1);
+        statuses.add(500);
+        statuses.add(500);
+        statuses.add(400);
+        statuses.add(500);
+
+        for (String address : new String[]{"주소1", "주소2", "주소3", "주소4"}) {
+            assertThatThrownBy(() -> kakaoMapService.geocode(address)).isInstanceOf(ExternalApiException.class);
+        }
+
+        assertThat(requests.get()).isEqualTo(4);
+        assertThat(kakaoMapService.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,120 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.util.GeoUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class RouteOptimizerTest {
+
+    private static final Duration BUDGET = Duration.ofSeconds(1);
+
+    private final RouteOptimizer routeOptimizer = new RouteOptimizer();
+
+    @DisplayName("optimize(): 한 줄로 놓인 스팟을 섞어도 끝에서 끝으로 가는 순서를 찾는다.")
+    @Test
+    void optimize_line() {
+        List<Integer> shuffled = new ArrayList<>(IntStream.range(0, 12).boxed().toList());
+        Collections.shuffle(shuffled, new Random(7));
+        List<RouteOptimizer.Stop> stops = shuffled.stream()
+                .map(i -> new RouteOptimizer.Stop(37.5, 127.0 + i * 0.01, RouteOptimizer.NO_SLOT))
+                .toList();
+
+        RouteOptimizer.Result result = routeOptimizer.optimize(stops, BUDGET);
+
+        int[] visited = Arrays.stream(result.order()).map(shuffled::get).toArray();
+        int[] ascending = IntStream.range(0, 12).toArray();
+        int[] descending = IntStream.range(0, 12).map(i -> 11 - i).toArray();
+        assertThat(Arrays.toString(visited)).isIn(Arrays.toString(ascending), Arrays.toString(descending));
+        assertThat(result.distanceKm()).isCloseTo(GeoUtil.distanceKm(37.5, 127.0, 37.5, 127.11), offset(1e-6));
+        assertThat(result.timedOut()).isFalse();
+    }
+
+    @DisplayName("optimize(): 시간대 순서(오전 -> 오후 -> 저녁)를 지키면서 최근접 이웃보다 짧은 경로를 만든다.")
+    @Test
+    void optimize_timeWindows() {
+        Random random = new Random(42);
+        List<RouteOptimizer.Stop> stops = new ArrayList<>();
+        for (int i = 0; i < 80; i++) {
+            int slot = random.nextInt(4) - 1;  // NO_SLOT 포함
+            stops.add(new RouteOptimizer.Stop(37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4, slot));
+        }
+
+        RouteOptimizer.Result result = routeOptimizer.optimize(stops, BUDGET);
+
+        assertThat(result.order()).containsExactlyInAnyOrder(IntStream.range(0, 80).toArray());
+        int latest = RouteOptimizer.NO_SLOT;
+        for (int stop : result.order()) {
+            int slot = stops.get(stop).slot();
+            if (slot != RouteOptimizer.NO_SLOT) {
+                assertThat(slot).isGreaterThanOrEqualTo(latest);
+                latest = slot;
+            }
+        }
+        assertThat(result.distanceKm()).isLessThan(result.originalDistanceKm());
+        assertThat(result.distanceKm()).isLessThan(nearestNeighbourBySlot(stops));
+    }
+
+    @DisplayName("optimize(): 시간 예산을 넘기면 그때까지의 경로(모든 스팟을 한 번씩)를 바로 돌려준다.")
+    @Test
+    void optimize_timeBudget() {
+        Random random = new Random(1);
+        List<RouteOptimizer.Stop> stops = IntStream.range(0, 200)
+                .mapToObj(i -> new RouteOptimizer.Stop(33 + random.nextDouble() * 5, 126 + random.nextDouble() * 3, RouteOptimizer.NO_SLOT))
+                .toList();
+
+        RouteOptimizer.Result result = routeOptimizer.optimize(stops, Duration.ZERO);
+
+        assertThat(result.timedOut()).isTrue();
+        assertThat(result.order()).containsExactlyInAnyOrder(IntStream.range(0, 200).toArray());
+    }
+
+    @DisplayName("slotOf(): Spot.time의 첫 시각으로 오전/오후/저녁을 나누고, 시각이 없으면 제약 없음으로 본다.")
+    @Test
+    void slotOf() {
+        assertThat(RouteOptimizer.slotOf("09:30")).isEqualTo(0);
+        assertThat(RouteOptimizer.slotOf("12:00")).isEqualTo(0);
+        assertThat(RouteOptimizer.slotOf("13:00~15:00")).isEqualTo(1);
+        assertThat(RouteOptimizer.slotOf("19:00")).isEqualTo(2);
+        assertThat(RouteOptimizer.slotOf("2시간")).isEqualTo(RouteOptimizer.NO_SLOT);
+        assertThat(RouteOptimizer.slotOf(null)).isEqualTo(RouteOptimizer.NO_SLOT);
+    }
+
+    // Python optimize_travel_course 방식: 시간대별로 첫 스팟부터 최근접 이웃
+    private static double nearestNeighbourBySlot(List<RouteOptimizer.Stop> stops) {
+        List<RouteOptimizer.Stop> route = new ArrayList<>();
+        for (int slot = RouteOptimizer.NO_SLOT; slot < 3; slot++) {
+            int s = slot;
+            List<RouteOptimizer.Stop> remaining = new ArrayList<>(stops.stream().filter(stop -> stop.slot() == s).toList());
+            RouteOptimizer.Stop current = remaining.remove(0);
+            route.add(current);
+            while (!remaining.isEmpty()) {
+                RouteOptimizer.Stop from = current;
+                current = remaining.stream()
+                        .min((a, b) -> Double.compare(distance(from, a), distance(from, b)))
+                        .orElseThrow();
+                remaining.remove(current);
+                route.add(current);
+            }
+        }
+        double total = 0;
+        for (int i = 1; i < route.size(); i++) {
+            total += distance(route.get(i - 1), route.get(i));
+        }
+        return total;
+    }
+
+    private static double distance(RouteOptimizer.Stop a, RouteOptimizer.Stop b) {
+        return GeoUtil.distanceKm(a.lat(), a.lng(), b.lat(), b.lng());
+    }
+}
@@ -0,0 +1,251 @@
+package me.eunsil.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.domain.CourseRoute;
+import me.eunsil.springbootdeveloper.dto.OptimizedRouteDTO;
+import me.eunsil.springbootdeveloper.dto.RouteDTO;
+import me.eunsil.springbootdeveloper.dto.SpotCoordinate;
+import me.eunsil.springbootdeveloper.repository.CourseRepository;
+import me.eunsil.springbootdeveloper.repository.CourseRepositoryCustom.SpotCoordinatesUpdate;
+import me.eunsil.springbootdeveloper.repository.CourseRouteRepository;
+import me.eunsil.springbootdeveloper.repository.GeocodeCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로컬 스텁 HTTP 서버를 Kakao 주소 검색 API 대신 띄워서 지오코딩 파이프라인 검증
+class RouteServiceTest {
+
+    private HttpServer kakaoStub;
+    private final Map<String, AtomicInteger> requestsByAddress = new ConcurrentHashMap<>();
+
+    private CourseService courseService;
+    private CourseRepository courseRepository;
+    private CourseRouteRepository courseRouteRepository;
+    private RouteService routeService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakaoStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        kakaoStub.createContext("/v2/local/search/address.json", exchange -> {
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery().substring("query=".length()), StandardCharsets.UTF_8);
+            requestsByAddress.computeIfAbsent(query, key -> new AtomicInteger()).incrementAndGet();
+
+            String body = query.startsWith("없는")
+                    ? "{\"documents\":[]}"
+                    : "{\"documents\":[{\"x\":\"127." + query.length() + "\",\"y\":\"37.5\"}]}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        kakaoStub.start();
+
+        GeocodeCache geocodeCache = new GeocodeCache(mock(GeocodeCacheRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(geocodeCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(geocodeCache, "ttl", Duration.ofDays(1));
+        ReflectionTestUtils.setField(geocodeCache, "negativeTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(geocodeCache, "lookupConcurrency", 2);
+        geocodeCache.init();
+
+        KakaoMapService kakaoMapService = new KakaoMapService(HttpClient.newHttpClient(), new ObjectMapper(), geocodeCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(kakaoMapService, "kakaoApiKey", "test-key");
+        ReflectionTestUtils.setField(kakaoMapService, "kakaoApiUrl", "http://127.0.0.1:" + kakaoStub.getAddress().getPort());
+        ReflectionTestUtils.setField(kakaoMapService, "requestTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(kakaoMapService, "maxAttempts", 1);
+        ReflectionTestUtils.setField(kakaoMapService, "failureThreshold", 5);
+        ReflectionTestUtils.setField(kakaoMapService, "openDuration", Duration.ofSeconds(30));
+        kakaoMapService.init();
+
+        courseService = mock(CourseService.class);
+        courseRepository = mock(CourseRepository.class);
+        RouteOptimizer routeOptimizer = new RouteOptimizer();
+        ReflectionTestUtils.setField(routeOptimizer, "timeBudget", Duration.ofSeconds(1));
+        courseRouteRepository = mock(CourseRouteRepository.class);
+        routeService = new RouteService(courseService, courseRepository, kakaoMapService, routeOptimizer,
+                new CourseRouteService(courseRouteRepository));
+        ReflectionTestUtils.setField(routeService, "maxConcurrency", 4);
+        routeService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStub.stop(0);
+    }
+
+    @DisplayName("getRoute(): 저장된 좌표는 재사용하고, 같은 주소는 한 번만 조회해서 원래 순서대로 반환한다.")
+    @Test
+    void getRoute() {
+        Course course = course("course-1",
+                List.of(spot("경복궁", "서울 종로구 사직로 161", null),
+                        spot("남산타워", "서울 용산구 남산공원길 105", new Course.Coordinates(37.55, 126.98))),
+                List.of(spot("광화문", "서울 종로구 사직로 161", null),
+                        spot("없는곳", "없는 주소", null)));
+        when(courseService.getCourseById("course-1")).thenReturn(course);
+
+        RouteDTO route = routeService.getRoute("course-1");
+
+        assertThat(route.getCoordinates()).extracting(SpotCoordinate::getName)
+                .containsExactly("경복궁", "남산타워", "광화문");
+        assertThat(route.getCoordinates().get(1).getLatitude()).isEqualTo(37.55);
+        // 중복 주소는 한 번, 저장된 좌표가 있는 주소는 호출하지 않음
+        assertThat(requestsByAddress.get("서울 종로구 사직로 161").get()).isEqualTo(1);
+        assertThat(requestsByAddress).doesNotContainKey("서울 용산구 남산공원길 105");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SpotCoordinatesUpdate>> updates = ArgumentCaptor.forClass(List.class);
+        verify(courseRepository).updateSpotCoordinates(eq("course-1"), updates.capture());
+        assertThat(updates.getValue()).extracting(SpotCoordinatesUpdate::dayIndex, SpotCoordinatesUpdate::spotIndex)
+                .containsExactly(tuple(0, 0), tuple(1, 0));
+
+        // 지오코딩한 결과로 경로 요약을 다시 저장 (찾을 수 없는 주소는 좌표 없이 확인된 것으로 기록)
+        ArgumentCaptor<CourseRoute> saved = ArgumentCaptor.forClass(CourseRoute.class);
+        verify(courseRouteRepository).saveIfNewer(saved.capture());
+        assertThat(saved.getValue().getCourseId()).isEqualTo("course-1");
+        assertThat(saved.getValue().isComplete()).isTrue();
+        assertThat(saved.getValue().getUnresolvedAddresses()).containsExactly("없는 주소");
+    }
+
+    @DisplayName("getRouteSummary(): 찾을 수 없는 주소가 기록된 요약은 다음 조회 때 코스를 읽거나 다시 지오코딩하지 않는다.")
+    @Test
+    void getRouteSummary_unresolvedRecorded() {
+        Course course = course("course-5",
+                List.of(spot("남산타워", "서울 용산구 남산공원길 105", new Course.Coordinates(37.55, 126.98)),
+                        spot("없는곳", "없는 주소", null)));
+        course.setVersion(2L);
+        when(courseService.getCourseById("course-5")).thenReturn(course);
+        when(courseRepository.findVersion("course-5")).thenReturn(2L);
+
+        CourseRoute first = routeService.getRouteSummary("course-5");
+        when(courseRouteRepository.findById("course-5")).thenReturn(Optional.of(first));
+        CourseRoute second = routeService.getRouteSummary("course-5");
+
+        assertThat(second).isSameAs(first);
+        assertThat(requestsByAddress.get("없는 주소").get()).isEqualTo(1);
+        verify(courseService, times(1)).getCourseById("course-5");
+        verify(courseRouteRepository, times(1)).saveIfNewer(any());
+    }
+
+    @DisplayName("getRouteSummary(): 저장된 요약의 코스 버전이 현재 버전과 다르면 코스를 다시 읽어서 계산한다.")
+    @Test
+    void getRouteSummary_staleVersion() {
+        Course before = course("course-6",
+                List.of(spot("남산타워", "서울 용산구 남산공원길 105", new Course.Coordinates(37.55, 126.98))));
+        before.setVersion(1L);
+        Course after = course("course-6",
+                List.of(spot("경복궁", "서울 종로구 사직로 161", new Course.Coordinates(37.58, 126.97))));
+        after.setVersion(2L);
+        when(courseRouteRepository.findById("course-6")).thenReturn(Optional.of(CourseRouteService.build(before)));
+        when(courseRepository.findVersion("course-6")).thenReturn(2L);
+        when(courseService.getCourseById("course-6")).thenReturn(after);
+
+        CourseRoute route = routeService.getRouteSummary("course-6");
+
+        assertThat(route.getCourseVersion()).isEqualTo(2L);
+        assertThat(route.getDays().get(0).getPoints()).extracting(CourseRoute.RoutePoint::getName).containsExactly("경복궁");
+        verify(courseRouteRepository).saveIfNewer(route);
+    }
+
+    @DisplayName("getRoute(): 좌표가 모두 채워진 경로 요약이 있으면 코스를 읽지 않고 요약만으로 응답한다.")
+    @Test
+    void getRoute_precomputed() {
+        Course course = course("course-4",
+                List.of(spot("남산타워", "서울 용산구 남산공원길 105", new Course.Coordinates(37.55, 126.98)),
+                        spot("경복궁", "서울 종로구 사직로 161", new Course.Coordinates(37.58, 126.97))));
+        when(courseRouteRepository.findById("course-4")).thenReturn(Optional.of(CourseRouteService.build(course)));
+        when(courseRepository.findVersion("course-4")).thenReturn(-1L);
+
+        RouteDTO route = routeService.getRoute("course-4");
+
+        assertThat(route.getCoordinates()).extracting(SpotCoordinate::getName).containsExactly("남산타워", "경복궁");
+        verify(courseService, never()).getCourseById(anyString());
+        verify(courseRouteRepository, never()).saveIfNewer(any());
+    }
+
+    @DisplayName("getRoute(): 모든 스팟에 좌표가 있으면 외부 API를 호출하지 않는다.")
+    @Test
+    void getRoute_allStored() {
+        Course course = course("course-2",
+                List.of(spot("남산타워", "서울 용산구 남산공원길 105", new Course.Coordinates(37.55, 126.98))));
+        when(courseService.getCourseById("course-2")).thenReturn(course);
+
+        RouteDTO route = routeService.getRoute("course-2");
+
+        assertThat(route.getCoordinates()).hasSize(1);
+        assertThat(requestsByAddress).isEmpty();
+        verify(courseRepository, never()).updateSpotCoordinates(eq("course-2"), anyList());
+    }
+
+    @DisplayName("getOptimizedRoute(): 좌표가 있는 스팟만 일자 안에서 순서를 바꾸고, 좌표를 못 찾은 스팟은 원래 자리에 둔다.")
+    @Test
+    void getOptimizedRoute() {
+        Course course = course("course-3",
+                List.of(spot("동쪽", "동쪽 주소", new Course.Coordinates(37.5, 127.10)),
+                        spot("서쪽", "서쪽 주소", new Course.Coordinates(37.5, 127.00)),
+                        spot("없는곳", "없는 주소", null),
+                        spot("가운데", "가운데 주소", new Course.Coordinates(37.5, 127.05))));
+        when(courseService.getCourseById("course-3")).thenReturn(course);
+
+        OptimizedRouteDTO route = routeService.getOptimizedRoute("course-3");
+
+        OptimizedRouteDTO.DayRoute day = route.getDays().get(0);
+        assertThat(day.getSpots().stream().map(Course.Spot::getName).toList())
+                .isIn(List.of("동쪽", "가운데", "없는곳", "서쪽"), List.of("서쪽", "가운데", "없는곳", "동쪽"));
+        assertThat(day.getDistanceKm()).isLessThan(day.getOriginalDistanceKm());
+    }
+
+    @SafeVarargs
+    private static Course course(String id, List<Course.Spot>... daySpots) {
+        Course course = new Course();
+        course.setId(id);
+        course.setDays(Arrays.stream(daySpots).map(spots -> {
+            Course.Day day = new Course.Day();
+            day.setSpots(new ArrayList<>(spots));
+            return day;
+        }).toList());
+        return course;
+    }
+
+    private static Course.Spot spot(String name, String address, Course.Coordinates coordinates) {
+        Course.Spot spot = new Course.Spot();
+        spot.setName(name);
+        spot.setAddress(address);
+        spot.setCoordinates(coordinates);
+        return spot;
+    }
+}
@@ -0,0 +1,68 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.domain.Course;
+import me.eunsil.springbootdeveloper.dto.SpotStat;
+import me.eunsil.springbootdeveloper.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SpotSearchServiceTest {
+
+    private CourseRepository courseRepository;
+    private SpotSearchService spotSearchService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        spotSearchService = new SpotSearchService(courseRepository);
+    }
+
+    @DisplayName("findNearby(): 정렬과 limit은 집계에 맡기고, limit이 없거나 너무 크면 기본값/상한으로 조회한다.")
+    @Test
+    void findNearby() {
+        // 서울시청 기준. 거리 계산과 정렬은 집계 파이프라인에서 끝난 결과
+        List<SpotStat> nearest = List.of(
+                new SpotStat("덕수궁", "서울 중구", "관광", 37.5658, 126.9751, 4, 0.25),
+                new SpotStat("경복궁", "서울 종로구", "관광", 37.5796, 126.9770, 12, 1.48));
+        when(courseRepository.findSpotsNear(37.5663, 126.9779, 3.0, 1000, 2)).thenReturn(nearest);
+
+        assertThat(spotSearchService.findNearby(37.5663, 126.9779, null, 2)).isEqualTo(nearest);
+
+        spotSearchService.findNearby(37.5663, 126.9779, 1.0, null);
+        spotSearchService.findNearby(37.5663, 126.9779, 1.0, 500);
+        verify(courseRepository).findSpotsNear(37.5663, 126.9779, 1.0, 1000, 20);
+        verify(courseRepository).findSpotsNear(37.5663, 126.9779, 1.0, 1000, 100);
+    }
+
+    @DisplayName("findNearby()/findPopular(): 좌표, 반경, 영역이 잘못되면 조회하지 않고 거부한다.")
+    @Test
+    void rejectsInvalidArea() {
+        assertThatThrownBy(() -> spotSearchService.findNearby(91, 127, 3.0, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spotSearchService.findNearby(37.5, 127, 500.0, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spotSearchService.findPopular(37.6, 126.9, 37.4, 127.1, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spotSearchService.findPopular(-10, -100, 10, 100, 20)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("Spot.setCoordinates(): 인덱스용 GeoJSON 점을 [lng, lat]로 같이 채우고, 범위 밖 좌표는 점을 만들지 않는다.")
+    @Test
+    void spotPoint() {
+        Course.Spot spot = new Course.Spot();
+        spot.setCoordinates(new Course.Coordinates(37.5663, 126.9779));
+        assertThat(spot.getPoint().getX()).isEqualTo(126.9779);
+        assertThat(spot.getPoint().getY()).isEqualTo(37.5663);
+
+        spot.setCoordinates(new Course.Coordinates(126.9779, 37.5663));  // lat/lng를 뒤바꿔 보낸 경우
+        assertThat(spot.getPoint()).isNull();
+    }
+}
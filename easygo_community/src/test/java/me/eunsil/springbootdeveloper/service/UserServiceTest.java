@@ -0,0 +1,92 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.config.CacheConfig;
+import me.eunsil.springbootdeveloper.domain.User;
+import me.eunsil.springbootdeveloper.dto.UserSnapshot;
+import me.eunsil.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.cache.cache-names=userByEmail,userById"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE) // @DataJpaTest 기본값은 캐시 없음
+@Import({UserService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시에 남는 값과 DB 상태를 커밋 기준으로 맞춤
+class UserServiceTest {
+
+    @Autowired
+    UserService userService;
+    @SpyBean
+    UserRepository userRepository;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("user@gmail.com").nickname("before").build());
+        clearInvocations(userRepository);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("findSnapshotById(): 두 번째 조회부터는 DB를 조회하지 않고 캐시된 값을 반환한다.")
+    @Test
+    void findSnapshotById_cacheHit() {
+        UserSnapshot first = userService.findSnapshotById(user.getId());
+        UserSnapshot second = userService.findSnapshotById(user.getId());
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getNickname()).isEqualTo("before");
+        verify(userRepository, times(1)).findById(anyLong());
+    }
+
+    @DisplayName("updateNickname(): 닉네임을 바꾸면 id/이메일 캐시가 모두 지워져 새 닉네임이 조회된다.")
+    @Test
+    void updateNickname_evictsCache() {
+        userService.findSnapshotById(user.getId());
+        userService.findSnapshotByEmail(user.getEmail());
+
+        userService.updateNickname("after", user.getEmail());
+        clearInvocations(userRepository);
+
+        assertThat(userService.findSnapshotById(user.getId()).getNickname()).isEqualTo("after");
+        assertThat(userService.findSnapshotByEmail(user.getEmail()).getNickname()).isEqualTo("after");
+        verify(userRepository, times(1)).findById(anyLong());
+        verify(userRepository, times(1)).findByEmail(anyString());
+    }
+
+    @DisplayName("deleteUser(): 탈퇴하면 캐시가 지워져 탈퇴 상태가 바로 조회된다.")
+    @Test
+    void deleteUser_evictsCache() {
+        assertThat(userService.findSnapshotById(user.getId()).isWithdrawn()).isFalse();
+
+        userService.deleteUser(user.getEmail());
+
+        assertThat(userService.findSnapshotById(user.getId()).isWithdrawn()).isTrue();
+    }
+}
@@ -0,0 +1,122 @@
+package me.eunsil.springbootdeveloper.service;
+
+import me.eunsil.springbootdeveloper.repository.ArticleCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ViewCountBufferTest {
+
+    private final ArticleCounterRepository articleCounterRepository = mock(ArticleCounterRepository.class);
+    private final ViewCountBuffer buffer = new ViewCountBuffer(articleCounterRepository);
+
+    @DisplayName("flush(): 조회수 증가와 flush가 동시에 일어나도 DB에 반영된 합계와 남은 증가분의 합이 전체 조회 수와 같다.")
+    @Test
+    void flush_concurrentIncrements() throws InterruptedException {
+        Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((articleId, delta) -> flushed.merge(articleId, delta, Long::sum));
+            return null;
+        }).when(articleCounterRepository).addViewCounts(anyMap());
+
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int t = 0; t < threads; t++) {
+            long articleId = t % 2 + 1;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.increment(articleId);
+                }
+                done.countDown();
+            });
+        }
+        executor.execute(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        buffer.flush();
+
+        long expectedPerArticle = (long) threads / 2 * perThread;
+        assertThat(flushed).containsEntry(1L, expectedPerArticle).containsEntry(2L, expectedPerArticle);
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @DisplayName("flush(): DB 반영 중에도 pendingCount는 반영 중인 증가분을 포함한다.")
+    @Test
+    void pendingCount_duringFlush() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        long[] seenDuringFlush = new long[1];
+        doAnswer(invocation -> {
+            seenDuringFlush[0] = buffer.pendingCount(1L);
+            return null;
+        }).when(articleCounterRepository).addViewCounts(anyMap());
+
+        buffer.flush();
+
+        assertThat(seenDuringFlush[0]).isEqualTo(2L);
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @DisplayName("flush(): DB 반영에 실패하면 증가분을 버퍼에 되돌리고 다음 flush에서 다시 반영한다.")
+    @Test
+    void flush_requeuesOnFailure() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        doThrow(new IllegalStateException("db down")).when(articleCounterRepository).addViewCounts(anyMap());
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount(1L)).isEqualTo(3L);
+
+        Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            flushed.putAll(invocation.getArgument(0));
+            return null;
+        }).when(articleCounterRepository).addViewCounts(anyMap());
+        buffer.increment(1L);
+
+        buffer.flush();
+
+        assertThat(flushed).containsExactly(Map.entry(1L, 4L));
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @DisplayName("flushOnShutdown(): 종료 시 남은 증가분을 반영하고, 남은 것이 없으면 DB를 호출하지 않는다.")
+    @Test
+    void flushOnShutdown() {
+        buffer.flushOnShutdown();
+        verify(articleCounterRepository, never()).addViewCounts(anyMap());
+
+        buffer.increment(7L);
+        buffer.flushOnShutdown();
+
+        verify(articleCounterRepository).addViewCounts(Map.of(7L, 1L));
+    }
+}
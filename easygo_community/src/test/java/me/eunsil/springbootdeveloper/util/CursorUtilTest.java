@@ -0,0 +1,48 @@
+package me.eunsil.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilTest {
+
+    @DisplayName("decodeScored(): encode(score, id)로 만든 커서를 같은 점수와 id로 되돌린다.")
+    @Test
+    void decodeScored_roundTrip() {
+        String cursor = CursorUtil.encode(new BigDecimal("1.234500"), 42L);
+
+        CursorUtil.ScoreCursor decoded = CursorUtil.decodeScored(cursor);
+
+        assertThat(decoded.score()).isEqualByComparingTo("1.2345");
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @DisplayName("decodeScored(): 커서가 비어 있으면 첫 페이지(null)이다.")
+    @Test
+    void decodeScored_blank() {
+        assertThat(CursorUtil.decodeScored(null)).isNull();
+        assertThat(CursorUtil.decodeScored(" ")).isNull();
+    }
+
+    @DisplayName("decodeScored(): 형식이 맞지 않는 커서는 IllegalArgumentException이 발생한다.")
+    @Test
+    void decodeScored_invalid() {
+        assertThatThrownBy(() -> CursorUtil.decodeScored("not base64!")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("invalid cursor");
+        assertThatThrownBy(() -> CursorUtil.decodeScored(encoded("1.5"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorUtil.decodeScored(encoded("abc:1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorUtil.decodeScored(encoded("1.5:x"))).isInstanceOf(IllegalArgumentException.class);
+        // id만 담긴 목록용 커서를 검색에 쓰는 경우
+        assertThatThrownBy(() -> CursorUtil.decodeScored(CursorUtil.encode(7L))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package me.eunsil.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlighterTest {
+
+    @DisplayName("highlight(): 검색어는 대소문자와 상관없이 <mark>로 감싸고, 나머지 원문은 HTML 이스케이프한다.")
+    @Test
+    void highlight() {
+        String result = SearchHighlighter.highlight("<b>Jeju</b> 제주 여행, jeju!", List.of("jeju", "여행"));
+
+        assertThat(result).isEqualTo("&lt;b&gt;<mark>Jeju</mark>&lt;/b&gt; 제주 <mark>여행</mark>, <mark>jeju</mark>!");
+    }
+
+    @DisplayName("highlight(): 겹치는 검색어는 하나의 <mark>로 합친다.")
+    @Test
+    void highlight_overlappingTerms() {
+        assertThat(SearchHighlighter.highlight("제주도 여행", List.of("제주", "주도")))
+                .isEqualTo("<mark>제주도</mark> 여행");
+    }
+
+    @DisplayName("snippet(): 처음 등장하는 검색어 앞뒤만 잘라서 말줄임표를 붙인다.")
+    @Test
+    void snippet() {
+        String text = "가".repeat(50) + "제주" + "나".repeat(50);
+
+        String result = SearchHighlighter.snippet(text, List.of("제주"), 5);  // 검색어 시작 위치 기준 앞 5글자 ~ 뒤 10글자
+
+        assertThat(result).isEqualTo("…" + "가".repeat(5) + "<mark>제주</mark>" + "나".repeat(8) + "…");
+    }
+
+    @DisplayName("snippet(): 검색어가 본문에 없으면 앞부분을 잘라서 반환하고, null은 그대로 null이다.")
+    @Test
+    void snippet_termNotFound() {
+        assertThat(SearchHighlighter.snippet("짧은 본문 <p>", List.of("제주"), 40)).isEqualTo("짧은 본문 &lt;p&gt;");
+        assertThat(SearchHighlighter.snippet("가".repeat(100), List.of("제주"), 5)).isEqualTo("가".repeat(10) + "…");
+        assertThat(SearchHighlighter.snippet(null, List.of("제주"), 5)).isNull();
+    }
+}
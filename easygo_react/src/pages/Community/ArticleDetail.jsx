@@ -214,7 +214,7 @@ const ArticleDetail = () => {
                     {existingFiles.map((url, index) => (
                       <div key={index} className="file-item">
                         <img 
-                          src={`${IMAGE_BASE_URL}${url}`}
+                          src={`${IMAGE_BASE_URL}${article.images?.[article.fileUrls.indexOf(url)]?.thumbnail ?? url}`}
                           alt={`기존 이미지 ${index + 1}`}
                         />
                         <button
@@ -277,10 +277,14 @@ const ArticleDetail = () => {
                 <div className="file-list">
                   {article.fileUrls.map((url, index) => {
                     const fullUrl = `${IMAGE_BASE_URL}${url}`;
+                    // 화면에는 중간 크기 이미지를 보여주고, 클릭하면 원본
+                    const displayUrl = `${IMAGE_BASE_URL}${article.images?.[index]?.medium ?? url}`;
                     return (
                       <div key={index} className="file-item">
                         <img 
-                          src={fullUrl}
+                          src={displayUrl}
+                          loading="lazy"
+                          onClick={() => window.open(fullUrl, '_blank')}
                           alt={`첨부 이미지 ${index + 1}`}
                           onError={(e) => {
                             console.error('Image load error for URL:', fullUrl);
@@ -1,11 +1,13 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { api } from "../../api/axios";
+import { api, IMAGE_BASE_URL } from "../../api/axios";
 import './ArticleList.scss';
 import useUserStore from '../../store/userStore';
 
 const Community = () => {
   const [articles, setArticles] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasNext, setHasNext] = useState(false);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const navigate = useNavigate();
@@ -16,10 +18,15 @@ const Community = () => {
     return !!token;
   };
 
-  const fetchArticles = async () => {
+  const fetchArticles = async (cursor = null) => {
     try {
-      const response = await api.get('/api/articles');
-      setArticles(response.data);
+      const response = await api.get('/api/articles', {
+        params: cursor ? { cursor } : {}
+      });
+      const { articles: page, nextCursor, hasNext } = response.data;
+      setArticles(prevArticles => cursor ? [...prevArticles, ...page] : page);
+      setNextCursor(nextCursor);
+      setHasNext(hasNext);
       setLoading(false);
     } catch (error) {
       console.error('Error fetching articles:', error);
@@ -119,6 +126,14 @@ const Community = () => {
               className="post-item"
               onClick={() => handleArticleClick(article.id)}
             >
+              {article.thumbnailUrl && (
+                <img
+                  className="post-thumbnail"
+                  src={`${IMAGE_BASE_URL}${article.thumbnailUrl}`}
+                  alt=""
+                  loading="lazy"
+                />
+              )}
               <div className="post-info">
                 <div className="post-title">{article.title}</div>
                 <div className="post-meta">
@@ -134,6 +149,11 @@ const Community = () => {
             </div>
           ))}
         </div>
+        {hasNext && (
+          <button onClick={() => fetchArticles(nextCursor)} className="load-more-button">
+            더보기
+          </button>
+        )}
       </div>
     </div>
   );
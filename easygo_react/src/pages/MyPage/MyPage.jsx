@@ -10,42 +10,34 @@ const MyPage = () => {
   const [editingTitle, setEditingTitle] = useState('');
   const navigate = useNavigate();
 
-  // 저장된 일정 불러오기
-  useEffect(() => {
-    const fetchSavedCourses = async () => {
-      try {
-        const response = await api.get('/api/courses/user');
-        console.log('=== API 응답 데이터 상세 로그 ===');
-        console.log('전체 응답:', JSON.stringify(response.data, null, 2));
-        
-        // 각 코스별 상세 정보 로깅
-        response.data.forEach((course, index) => {
-          console.log(`\n[코스 ${index + 1} 상세 정보]`);
-          console.log('코스 전체 데이터:', JSON.stringify(course, null, 2));
-          console.log('코스 ID:', course.id);
-          console.log('코스 이름:', course.name);
-          console.log('위치:', course.location);
-          console.log('소스 URL:', course.source_url);
-          console.log('source_url 타입:', typeof course.source_url);
-          console.log('일정:', course.days);
-        });
+  const [nextCursor, setNextCursor] = useState(null);
+
+  // 저장된 일정 목록 불러오기 (요약만, cursor가 있으면 다음 페이지)
+  const fetchSavedCourses = async (cursor = null) => {
+    try {
+      const response = await api.get('/api/courses/user/summaries', {
+        params: cursor ? { cursor } : {}
+      });
+      const { courses, nextCursor: next, hasNext } = response.data;
+
+      setSavedCourses(prev => (cursor ? [...prev, ...courses] : courses));
+      setNextCursor(hasNext ? next : null);
+    } catch (error) {
+      console.error('=== API 에러 상세 로그 ===');
+      console.error('에러 객체:', error);
+      console.error('에러 응답:', error.response);
+      console.error('에러 메시지:', error.message);
 
-        setSavedCourses(response.data);
-      } catch (error) {
-        console.error('=== API 에러 상세 로그 ===');
-        console.error('에러 객체:', error);
-        console.error('에러 응답:', error.response);
-        console.error('에러 메시지:', error.message);
-        
-        if (error.response?.status === 401) {
-          alert('로그인이 필요한 서비스입니다.');
-          navigate('/login');
-        }
-      } finally {
-        setIsLoading(false);
+      if (error.response?.status === 401) {
+        alert('로그인이 필요한 서비스입니다.');
+        navigate('/login');
       }
-    };
+    } finally {
+      setIsLoading(false);
+    }
+  };
 
+  useEffect(() => {
     fetchSavedCourses();
   }, []);
 
@@ -54,9 +46,23 @@ const MyPage = () => {
     window.scrollTo(0, 0);
   }, []); // 빈 의존성 배열로 컴포넌트 마운트 시에만 실행
 
-  // 일정 클릭 시 상세 페이지로 이동
-  const handleCourseClick = (course) => {
-    const courseId = course.id || course._id;
+  // 일정 클릭 시 전체 일정을 불러와서 상세 페이지로 이동
+  const handleCourseClick = async (summary) => {
+    const courseId = summary.id || summary._id;
+    let course;
+    try {
+      const response = await api.get(`/api/courses/${courseId}`);
+      course = response.data;
+    } catch (error) {
+      console.error('Course load error:', error);
+      if (error.response?.status === 401) {
+        alert('로그인이 필요한 서비스입니다.');
+        navigate('/login');
+      } else {
+        alert('일정을 불러오는 중 오류가 발생했습니다.');
+      }
+      return;
+    }
     
     // location이 URL 형태인지 확인하는 함수
     const isLocationUrl = (location) => {
@@ -199,11 +205,6 @@ const MyPage = () => {
       ) : (
         <div className="courses-grid">
           {savedCourses.map(course => {
-            console.log('\n=== 코스 카드 렌더링 정보 ===');
-            console.log('렌더링 중인 코스:', course);
-            console.log('source_url 존재 여부:', !!course.source_url);
-            console.log('source_url 값:', course.source_url);
-            
             return (
               <div 
                 key={course.id}
@@ -275,8 +276,8 @@ const MyPage = () => {
                       )}
                     </span>
                     <span className="date">
-                      {new Date(course.days[0].date).toLocaleDateString()} - 
-                      {new Date(course.days[course.days.length - 1].date).toLocaleDateString()}
+                      {course.startDate && new Date(course.startDate).toLocaleDateString()} - 
+                      {course.endDate && new Date(course.endDate).toLocaleDateString()}
                     </span>
                   </div>
                 </div>
@@ -292,6 +293,15 @@ const MyPage = () => {
           })}
         </div>
       )}
+
+      {nextCursor && (
+        <button
+          className="more-button"
+          onClick={() => fetchSavedCourses(nextCursor)}
+        >
+          더 보기
+        </button>
+      )}
     </div>
   );
 };
@@ -46,9 +46,12 @@ const TravelCourse = () => {
           setCourseData(location.state.course);
         } else {
           // API에서 사용자의 코스 데이터 가져오기
-          const response = await api.get('/api/courses/user');
-          if (response.data && response.data.length > 0) {
-            setCourseData(response.data[0]); // 가장 최근 코스
+          // 가장 최근 코스의 요약만 받아서 전체 일정 조회
+          const response = await api.get('/api/courses/user/summaries', { params: { size: 1 } });
+          const latest = response.data?.courses?.[0];
+          if (latest) {
+            const courseResponse = await api.get(`/api/courses/${latest.id}`);
+            setCourseData(courseResponse.data);
           }
         }
       } catch (error) {
@@ -309,12 +312,14 @@ const TravelCourse = () => {
   const handleUpdateCourse = async () => {
     try {
       // 수정할 데이터 구성
+      const courseId = courseData.id || courseData._id;
       const updateData = {
-        id: courseData._id,  // 코스 ID
+        version: courseData.version,  // 읽은 뒤 다른 곳에서 수정됐으면 409
         name: courseData.name,  // 코스 이름
         days: courseData.days.map(day => ({
           date: day.date,
           spots: day.spots.map(spot => ({
+            spotId: spot.spotId,
             name: spot.name,
             address: spot.address,
             description: spot.description,
@@ -326,7 +331,7 @@ const TravelCourse = () => {
       };
 
       // 서버로 전송
-      const response = await api.post('/api/courses', updateData);
+      const response = await api.put(`/api/courses/${courseId}`, updateData);
       
       if (response.status === 200) {
         alert('일정이 수정되었습니다.');
@@ -337,6 +342,8 @@ const TravelCourse = () => {
       if (error.response?.status === 401) {
         alert('로그인이 필요한 서비스입니다.');
         navigate('/login');
+      } else if (error.response?.status === 409) {
+        alert('다른 곳에서 먼저 수정된 일정입니다. 새로고침 후 다시 수정해주세요.');
       } else {
         alert(`일정 수정 중 오류가 발생했습니다: ${error.response?.data?.message || error.message}`);
       }